@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import static com.badlogic.gdx.graphics.GL30.*;
+
+import java.nio.IntBuffer;
+
+/** Shadow copy of the GL state most often set redundantly, consulted by {@link JglfwGL20} and {@link JglfwGL30} when
+ * {@link JglfwApplicationConfiguration#glStateCache} is set. Each method records the new value and returns false if the state was
+ * already current, in which case the GL call can be skipped.
+ * State that was never set, or is unknown after {@link #invalidate()}, always lets the call through. */
+final class GLStateCache {
+	static private final int UNKNOWN = -1;
+	static private final int TEXTURE_UNITS = 32;
+	static private final int TEXTURE_TARGETS = 4;
+	static private final int CAPS = 9;
+
+	private int activeUnit;
+	private final int[] textures = new int[TEXTURE_UNITS * TEXTURE_TARGETS];
+	private final int[] caps = new int[CAPS];
+	private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+	private int program;
+	private int depthMask, depthFunc, cullFace;
+	private int arrayBuffer, elementArrayBuffer, vertexArray;
+	private int drawFramebuffer, readFramebuffer;
+
+	GLStateCache () {
+		invalidate();
+	}
+
+	/** Forgets all state, so the next call to each method goes through. Call when the context changes or GL was called without
+	 * going through the cache. */
+	void invalidate () {
+		activeUnit = UNKNOWN;
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = UNKNOWN;
+		for (int i = 0; i < caps.length; i++)
+			caps[i] = UNKNOWN;
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = UNKNOWN;
+		program = UNKNOWN;
+		depthMask = depthFunc = cullFace = UNKNOWN;
+		arrayBuffer = elementArrayBuffer = vertexArray = UNKNOWN;
+		drawFramebuffer = readFramebuffer = UNKNOWN;
+	}
+
+	/** Forgets the framebuffer bindings and the scissor test, after they were changed without going through the cache. */
+	void invalidateFramebuffer () {
+		drawFramebuffer = readFramebuffer = UNKNOWN;
+		caps[capIndex(GL_SCISSOR_TEST)] = UNKNOWN;
+	}
+
+	boolean activeTexture (int texture) {
+		int unit = texture - GL_TEXTURE0;
+		if (unit < 0 || unit >= TEXTURE_UNITS) {
+			activeUnit = UNKNOWN;
+			return true;
+		}
+		if (unit == activeUnit) return false;
+		activeUnit = unit;
+		return true;
+	}
+
+	boolean bindTexture (int target, int texture) {
+		int targetIndex = textureTargetIndex(target);
+		if (targetIndex == UNKNOWN || activeUnit == UNKNOWN) return true;
+		int index = activeUnit * TEXTURE_TARGETS + targetIndex;
+		if (textures[index] == texture) return false;
+		textures[index] = texture;
+		return true;
+	}
+
+	/** Returns the texture bound to the target on the active unit, or -1 if it is unknown. */
+	int textureBinding (int target) {
+		int targetIndex = textureTargetIndex(target);
+		if (targetIndex == UNKNOWN || activeUnit == UNKNOWN) return UNKNOWN;
+		return textures[activeUnit * TEXTURE_TARGETS + targetIndex];
+	}
+
+	void texturesDeleted (int n, IntBuffer ids) {
+		for (int i = ids.position(), end = i + n; i < end; i++)
+			textureDeleted(ids.get(i));
+	}
+
+	void textureDeleted (int texture) {
+		// Deleting a bound texture reverts the binding to 0.
+		for (int i = 0; i < textures.length; i++)
+			if (textures[i] == texture) textures[i] = 0;
+	}
+
+	boolean enable (int cap, boolean enabled) {
+		int index = capIndex(cap);
+		if (index == UNKNOWN) return true;
+		int value = enabled ? 1 : 0;
+		if (caps[index] == value) return false;
+		caps[index] = value;
+		return true;
+	}
+
+	boolean blendFunc (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) return false;
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		return true;
+	}
+
+	boolean useProgram (int program) {
+		if (this.program == program) return false;
+		this.program = program;
+		return true;
+	}
+
+	boolean depthMask (boolean flag) {
+		int value = flag ? 1 : 0;
+		if (depthMask == value) return false;
+		depthMask = value;
+		return true;
+	}
+
+	boolean depthFunc (int func) {
+		if (depthFunc == func) return false;
+		depthFunc = func;
+		return true;
+	}
+
+	boolean cullFace (int mode) {
+		if (cullFace == mode) return false;
+		cullFace = mode;
+		return true;
+	}
+
+	boolean bindBuffer (int target, int buffer) {
+		if (target == GL_ARRAY_BUFFER) {
+			if (arrayBuffer == buffer) return false;
+			arrayBuffer = buffer;
+		} else if (target == GL_ELEMENT_ARRAY_BUFFER) {
+			if (elementArrayBuffer == buffer) return false;
+			elementArrayBuffer = buffer;
+		}
+		return true;
+	}
+
+	void buffersDeleted (int n, IntBuffer ids) {
+		for (int i = ids.position(), end = i + n; i < end; i++)
+			bufferDeleted(ids.get(i));
+	}
+
+	void bufferDeleted (int buffer) {
+		if (arrayBuffer == buffer) arrayBuffer = 0;
+		if (elementArrayBuffer == buffer) elementArrayBuffer = 0;
+	}
+
+	boolean bindVertexArray (int array) {
+		if (vertexArray == array) return false;
+		vertexArray = array;
+		elementArrayBuffer = UNKNOWN; // The element array binding is part of the vertex array state.
+		return true;
+	}
+
+	void vertexArraysDeleted (int n, int[] ids, int offset) {
+		for (int i = offset, end = offset + n; i < end; i++)
+			vertexArrayDeleted(ids[i]);
+	}
+
+	void vertexArraysDeleted (int n, IntBuffer ids) {
+		for (int i = ids.position(), end = i + n; i < end; i++)
+			vertexArrayDeleted(ids.get(i));
+	}
+
+	void vertexArrayDeleted (int array) {
+		if (vertexArray == array) {
+			vertexArray = 0;
+			elementArrayBuffer = UNKNOWN;
+		}
+	}
+
+	boolean bindFramebuffer (int target, int framebuffer) {
+		if (target == GL_FRAMEBUFFER) {
+			if (drawFramebuffer == framebuffer && readFramebuffer == framebuffer) return false;
+			drawFramebuffer = readFramebuffer = framebuffer;
+		} else if (target == GL_DRAW_FRAMEBUFFER) {
+			if (drawFramebuffer == framebuffer) return false;
+			drawFramebuffer = framebuffer;
+		} else if (target == GL_READ_FRAMEBUFFER) {
+			if (readFramebuffer == framebuffer) return false;
+			readFramebuffer = framebuffer;
+		}
+		return true;
+	}
+
+	void framebuffersDeleted (int n, IntBuffer ids) {
+		for (int i = ids.position(), end = i + n; i < end; i++)
+			framebufferDeleted(ids.get(i));
+	}
+
+	void framebufferDeleted (int framebuffer) {
+		if (drawFramebuffer == framebuffer) drawFramebuffer = 0;
+		if (readFramebuffer == framebuffer) readFramebuffer = 0;
+	}
+
+	static private int textureTargetIndex (int target) {
+		switch (target) {
+		case GL_TEXTURE_2D:
+			return 0;
+		case GL_TEXTURE_CUBE_MAP:
+			return 1;
+		case GL_TEXTURE_3D:
+			return 2;
+		case GL_TEXTURE_2D_ARRAY:
+			return 3;
+		default:
+			return UNKNOWN;
+		}
+	}
+
+	static private int capIndex (int cap) {
+		switch (cap) {
+		case GL_BLEND:
+			return 0;
+		case GL_CULL_FACE:
+			return 1;
+		case GL_DEPTH_TEST:
+			return 2;
+		case GL_SCISSOR_TEST:
+			return 3;
+		case GL_STENCIL_TEST:
+			return 4;
+		case GL_POLYGON_OFFSET_FILL:
+			return 5;
+		case GL_DITHER:
+			return 6;
+		case GL_SAMPLE_ALPHA_TO_COVERAGE:
+			return 7;
+		case GL_SAMPLE_COVERAGE:
+			return 8;
+		default:
+			return UNKNOWN;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Cursor;
+import com.badlogic.gdx.graphics.Pixmap;
+
+/** {@link JglfwGraphics} without GLFW: there is no window, and GL calls go to a {@link JglfwNullGL30}. Used when
+ * {@link JglfwApplicationConfiguration#headless} is true. */
+class HeadlessGraphics extends JglfwGraphics {
+	private final JglfwNullGL30 gl;
+
+	HeadlessGraphics (JglfwApplicationConfiguration config, JglfwNullGL30 gl) {
+		super(config, gl, config.useGL30 ? gl : null);
+		this.gl = gl;
+	}
+
+	/** Returns the no-op GL, to read its call counts. */
+	JglfwNullGL30 getNullGL () {
+		return gl;
+	}
+
+	void sizeChanged (int width, int height) {
+		ApplicationListener listener = Gdx.app.getApplicationListener();
+		if (listener != null) listener.resize(width, height);
+	}
+
+	void waitEvents (double timeout) {
+	}
+
+	public float getPpiX () {
+		return 96;
+	}
+
+	public float getPpiY () {
+		return 96;
+	}
+
+	public float getPpcX () {
+		return 96 / 2.54f;
+	}
+
+	public float getPpcY () {
+		return 96 / 2.54f;
+	}
+
+	public float getDensity () {
+		return 96 / 160f;
+	}
+
+	public boolean supportsDisplayModeChange () {
+		return false;
+	}
+
+	public DisplayMode[] getDisplayModes () {
+		return new DisplayMode[] {getDesktopDisplayMode()};
+	}
+
+	public DisplayMode getDesktopDisplayMode () {
+		return new JglfwDisplayMode(getWidth(), getHeight(), 60, 24);
+	}
+
+	public boolean setDisplayMode (DisplayMode displayMode) {
+		return false;
+	}
+
+	public boolean setDisplayMode (int width, int height, boolean fullscreen) {
+		return false;
+	}
+
+	public void setTitle (String title) {
+	}
+
+	public void setVSync (boolean vsync) {
+	}
+
+	public boolean supportsExtension (String extension) {
+		return false;
+	}
+
+	public void setPosition (int x, int y) {
+	}
+
+	public void hide () {
+	}
+
+	public void show () {
+	}
+
+	public void minimize () {
+	}
+
+	public void restore () {
+	}
+
+	public Cursor newCursor (Pixmap pixmap, int xHotspot, int yHotspot) {
+		return new Cursor() {
+			public void setSystemCursor () {
+			}
+		};
+	}
+
+	public void setCursor (Cursor cursor) {
+	}
+}
@@ -58,9 +58,9 @@ public class JglfwApplication implements Application {
 	JglfwInput input;
 	JglfwNet net;
 	final ApplicationListener listener;
-	private final Array<Runnable> runnables = new Array();
-	private final Array<Runnable> executedRunnables = new Array();
+	private final RunnableQueue runnables = new RunnableQueue();
 	private final Array<LifecycleListener> lifecycleListeners = new Array();
+	private final Array<JglfwWindow> windows = new Array();
 	private final Map<String, Preferences> preferences = new HashMap();
 	private final JglfwClipboard clipboard = new JglfwClipboard(this);
 	private int logLevel = LOG_INFO;
@@ -72,6 +72,30 @@ public class JglfwApplication implements Application {
 
 	private boolean forceExit;
 	private int foregroundFPS, backgroundFPS, hiddenFPS;
+	private int runnablesPerFrame;
+	private long runnablesNanosPerFrame;
+	private int deferredRunnables;
+	private boolean idleWaitEvents;
+	private double idleTimeout;
+	private JglfwFrameLimiter frameLimiter = new JglfwSync();
+	private float fixedTimeStep;
+	private int maxFixedSteps;
+	private double fixedStepAccumulator;
+	/** The thread that owns the GL context: the main loop thread, or the render thread in pipelined mode. */
+	private Thread glThread;
+	private RenderThread renderThread;
+	private boolean headless;
+	private JglfwFrameProfiler profiler;
+	private final Runnable pauseListener = new Runnable() {
+		public void run () {
+			listener.pause();
+		}
+	};
+	private final Runnable resumeListener = new Runnable() {
+		public void run () {
+			listener.resume();
+		}
+	};
 
 	// Callbacks need to be fields to avoid GC, so don't inline them!
 	private GLFWMonitorCallback monitorCallback;
@@ -133,14 +157,27 @@ public class JglfwApplication implements Application {
 		foregroundFPS = config.foregroundFPS;
 		backgroundFPS = config.backgroundFPS;
 		hiddenFPS = config.hiddenFPS;
+		runnablesPerFrame = config.runnablesPerFrame;
+		runnablesNanosPerFrame = config.runnablesNanosPerFrame;
+		idleWaitEvents = config.idleWaitEvents;
+		idleTimeout = config.idleTimeout;
+		fixedTimeStep = config.fixedTimeStep;
+		maxFixedSteps = config.maxFixedSteps;
 		preferencesdir = config.preferencesLocation;
-
-		final Thread glThread = Thread.currentThread();
+		profiler = new JglfwFrameProfiler(config.frameProfilerSamples);
+		profiler.setEnabled(config.frameProfiler);
+		if (config.frameProfilerJmx) profiler.registerMBean();
 
 		GdxNativesLoader.load();
-		JglfwNativesLoader.load(JglfwApplicationConfiguration.disableAudio);
+		JglfwNativesLoader.load(JglfwApplicationConfiguration.disableAudio || config.headless);
+
+		if (config.headless) {
+			initializeHeadless(config);
+			return;
+		}
 
 		if (glfwInit() != GL_TRUE) throw new GdxRuntimeException("Unable to initialize GLFW.");
+		JglfwMonitor.refresh();
 
 		Gdx.app = this;
 		Gdx.graphics = graphics = new JglfwGraphics(config);
@@ -161,11 +198,17 @@ public class JglfwApplication implements Application {
 		}
 		Gdx.audio = audio;
 
+		if (config.pipelined && listener instanceof JglfwPipelinedListener)
+			glThread = renderThread = new RenderThread(this, (JglfwPipelinedListener)listener);
+		else
+			glThread = Thread.currentThread();
+
 		glfwSetMonitorCallback(monitorCallback = new GLFWMonitorCallback() {
 			@Override
 			public void invoke(long monitor, int event) {
-				// TODO
-//				graphics.monitorChanged();
+				graphics.monitorsChanged();
+				for (int i = 0; i < windows.size; i++)
+					windows.get(i).graphics.updateMonitor();
 			}
 		});
 		glfwSetFramebufferSizeCallback(graphics.window, framebufferSizeCallback = new GLFWFramebufferSizeCallback() {
@@ -260,10 +303,33 @@ public class JglfwApplication implements Application {
 		start();
 	}
 
+	/** Initializes without GLFW: no window is created, GL calls go to a {@link JglfwNullGL30} and audio has no device. */
+	private void initializeHeadless (JglfwApplicationConfiguration config) {
+		headless = true;
+		idleWaitEvents = false;
+		glThread = Thread.currentThread();
+
+		Gdx.app = this;
+		Gdx.graphics = graphics = new HeadlessGraphics(config, new JglfwNullGL30());
+		Gdx.files = files = new JglfwFiles();
+		Gdx.input = input = new JglfwInput(this);
+		Gdx.net = net = new JglfwNet();
+		Gdx.audio = audio = new OpenALAudio(config.audioDeviceSimultaneousSources, config.audioDeviceBufferCount,
+			config.audioDeviceBufferSize, true);
+
+		start();
+	}
+
 	/** Starts the game loop after the application internals have been initialized. */
 	protected void start () {
-		listener.create();
-		listener.resize(graphics.getWidth(), graphics.getHeight());
+		if (renderThread != null) {
+			glfwMakeContextCurrent(0); // The render thread takes over the context and creates the listener.
+			renderThread.start();
+			renderThread.awaitCreated();
+		} else {
+			listener.create();
+			listener.resize(graphics.getWidth(), graphics.getHeight());
+		}
 
 		while (running)
 			frame();
@@ -274,16 +340,32 @@ public class JglfwApplication implements Application {
 	protected void frame () {
 		if (!running) return;
 
+		// Wait for the GPU before polling input, so the frame uses the most recent input.
+		JglfwFrameLatency frameLatency = graphics.getFrameLatency();
+		if (frameLatency != null && renderThread == null) frameLatency.frameStart();
+
+		long frameTime = profiler.start();
 		boolean shouldRender = false;
 
-		if (executeRunnables()) shouldRender = true;
+		if (renderThread == null && executeRunnables()) shouldRender = true;
+		long time = profiler.record(JglfwFrameProfiler.RUNNABLES, frameTime);
 
 		if (!running) return;
 
-		input.update();
+		for (int i = 0; i < windows.size; i++)
+			windows.get(i).input.resetFrameState();
+
+		// With non continuous rendering and nothing to do, block until something happens instead of polling.
+		boolean idle = idleWaitEvents && !shouldRender && !graphics.isContinuousRendering();
+		if (idle)
+			input.waitEvents(idleTimeout);
+		else
+			input.update();
+		time = profiler.record(JglfwFrameProfiler.INPUT, time);
 		if (audio != null) {
 			audio.update();
 		}
+		profiler.record(JglfwFrameProfiler.AUDIO, time);
 		shouldRender |= graphics.shouldRender();
 
 		long frameStartTime = System.nanoTime();
@@ -291,10 +373,10 @@ public class JglfwApplication implements Application {
 			(graphics.isForeground() ? foregroundFPS : backgroundFPS);
 
 		if (targetFPS == -1) { // Rendering is paused.
-			if (!isPaused) listener.pause();
+			if (!isPaused) runOnGLThread(pauseListener);
 			isPaused = true;
 		} else {
-			if (isPaused) listener.resume();
+			if (isPaused) runOnGLThread(resumeListener);
 			isPaused = false;
 			if (shouldRender)
 				render(frameStartTime);
@@ -302,25 +384,25 @@ public class JglfwApplication implements Application {
 				targetFPS = backgroundFPS;
 		}
 
-		if (targetFPS != 0) {
+		if (targetFPS != 0 && !(idle && !shouldRender)) {
+			time = profiler.start();
 			if (targetFPS == -1)
 				sleep(100);
 			else
-				Sync.sync(targetFPS);
+				frameLimiter.sync(targetFPS);
+			profiler.record(JglfwFrameProfiler.SYNC, time);
 		}
+		profiler.record(JglfwFrameProfiler.FRAME, frameTime);
 	}
 
+	/** Runs the runnables posted with {@link #postRunnable(Runnable)} since the last call, within the per frame budget set by
+	 * {@link #setRunnableBudget(int, long)}. Runnables over budget are kept in order for the next frame. Must only be called from
+	 * the main loop thread. */
 	public boolean executeRunnables () {
-		synchronized (runnables) {
-			for (int i = runnables.size - 1; i >= 0; i--)
-				executedRunnables.add(runnables.get(i));
-			runnables.clear();
-		}
-		if (executedRunnables.size == 0) return false;
-		do
-			executedRunnables.pop().run();
-		while (executedRunnables.size > 0);
-		return true;
+		int executed = runnables.drain(runnablesPerFrame, runnablesNanosPerFrame);
+		deferredRunnables = runnables.size();
+		if (deferredRunnables > 0 && executed > 0) graphics.requestRendering(); // Keep going next frame.
+		return executed > 0;
 	}
 
 	void sleep (int millis) {
@@ -330,14 +412,130 @@ public class JglfwApplication implements Application {
 		}
 	}
 
+	private void runOnGLThread (Runnable runnable) {
+		if (Thread.currentThread() == glThread)
+			runnable.run();
+		else
+			postRunnable(runnable);
+	}
+
 	void render (long time) {
 		graphics.frameStart(time);
-		listener.render();
+		long phaseTime = profiler.start();
+		if (renderThread != null) {
+			renderThread.frame();
+			profiler.record(JglfwFrameProfiler.RENDER, phaseTime);
+			return;
+		}
+		JglfwGLProfiler glProfiler = graphics.getGLProfiler();
+		if (glProfiler != null) glProfiler.frameStart();
+		if (windows.size > 0) renderWindows(time);
+		JglfwGLDebug glDebug = graphics.getGLDebug();
+		if (glDebug != null) glDebug.update();
+		JglfwGLLoader glLoader = graphics.getGLLoader();
+		if (glLoader != null) glLoader.update();
+		JglfwGpuTimer gpuTimer = graphics.getGpuTimer();
+		if (gpuTimer != null) gpuTimer.frameStart();
+		JglfwDynamicResolution dynamicResolution = graphics.getDynamicResolution();
+		if (dynamicResolution != null) dynamicResolution.frameStart();
+		if (fixedTimeStep > 0 && listener instanceof JglfwFixedStepListener)
+			renderFixedStep((JglfwFixedStepListener)listener);
+		else
+			listener.render();
+		if (dynamicResolution != null) dynamicResolution.frameEnd();
+		if (gpuTimer != null) gpuTimer.frameEnd();
+		JglfwFrameCapture frameCapture = graphics.getFrameCapture();
+		if (frameCapture != null) frameCapture.frameEnd(graphics.getWidth(), graphics.getHeight());
+		phaseTime = profiler.record(JglfwFrameProfiler.RENDER, phaseTime);
+		if (!headless) glfwSwapBuffers(graphics.window);
+		JglfwFrameLatency frameLatency = graphics.getFrameLatency();
+		if (frameLatency != null) frameLatency.frameSwapped();
+		profiler.record(JglfwFrameProfiler.SWAP, phaseTime);
+	}
+
+	/** Renders the additional windows, then makes the application's window current again. The windows don't wait for vsync, only
+	 * the application's window, swapped last, does, so N windows don't divide the frame rate by N. */
+	private void renderWindows (long time) {
+		for (int i = 0; i < windows.size; i++)
+			if (!windows.get(i).render(time)) windows.removeIndex(i--);
+		makeMainCurrent();
+	}
+
+	private void makeMainCurrent () {
+		graphics.makeCurrent();
+		Gdx.graphics = graphics;
+		Gdx.input = input;
+		Gdx.gl = graphics.getGL20();
+		Gdx.gl20 = graphics.getGL20();
+		Gdx.gl30 = graphics.getGL30();
+	}
+
+	private void renderFixedStep (JglfwFixedStepListener listener) {
+		fixedStepAccumulator += graphics.getRawDeltaTime();
+		int steps = 0;
+		while (fixedStepAccumulator >= fixedTimeStep) {
+			if (maxFixedSteps > 0 && steps == maxFixedSteps) {
+				// Too far behind, drop the backlog so a spike doesn't snowball. The simulation runs slower than real time instead.
+				fixedStepAccumulator %= fixedTimeStep;
+				break;
+			}
+			listener.update(fixedTimeStep);
+			fixedStepAccumulator -= fixedTimeStep;
+			steps++;
+		}
+		listener.render((float)(fixedStepAccumulator / fixedTimeStep));
+	}
+
+	/** Draws a frame handed off by the main loop. Called on the render thread in pipelined mode. */
+	void renderFrame (JglfwPipelinedListener listener, int buffer) {
+		// The frame boundary is on the render thread, which is still drawing when the main loop starts the next frame.
+		JglfwGLProfiler glProfiler = graphics.getGLProfiler();
+		if (glProfiler != null) glProfiler.frameStart();
+		JglfwFrameLatency frameLatency = graphics.getFrameLatency();
+		if (frameLatency != null) frameLatency.frameStart();
+		JglfwGLDebug glDebug = graphics.getGLDebug();
+		if (glDebug != null) glDebug.update();
+		JglfwGLLoader glLoader = graphics.getGLLoader();
+		if (glLoader != null) glLoader.update();
+		JglfwGpuTimer gpuTimer = graphics.getGpuTimer();
+		if (gpuTimer != null) gpuTimer.frameStart();
+		JglfwDynamicResolution dynamicResolution = graphics.getDynamicResolution();
+		if (dynamicResolution != null) dynamicResolution.frameStart();
+		listener.render(buffer);
+		if (dynamicResolution != null) dynamicResolution.frameEnd();
+		if (gpuTimer != null) gpuTimer.frameEnd();
+		JglfwFrameCapture frameCapture = graphics.getFrameCapture();
+		if (frameCapture != null) frameCapture.frameEnd(graphics.getWidth(), graphics.getHeight());
 		glfwSwapBuffers(graphics.window);
+		if (frameLatency != null) frameLatency.frameSwapped();
 	}
 
 	/** Called when the game loop has exited. */
 	protected void end () {
+		if (renderThread != null)
+			renderThread.finish();
+		else
+			disposeListeners();
+		if (audio != null) {
+			audio.dispose();
+		}
+		profiler.unregisterMBean();
+		if (!headless) {
+			if (graphics.getGLLoader() != null) graphics.getGLLoader().dispose();
+			glfwReleaseCallbacks(graphics.window);
+			glfwTerminate();
+		}
+		if (forceExit) System.exit(-1);
+	}
+
+	/** Pauses and disposes the lifecycle listeners and the application listener. Called on the thread that owns the GL context. */
+	void disposeListeners () {
+		if (windows.size > 0) {
+			for (JglfwWindow window : windows)
+				window.dispose();
+			windows.clear();
+			makeMainCurrent();
+		}
 		synchronized (lifecycleListeners) {
 			for (LifecycleListener listener : lifecycleListeners) {
 				listener.pause();
@@ -346,18 +544,48 @@ public class JglfwApplication implements Application {
 		}
 		listener.pause();
 		listener.dispose();
-		if (audio != null) {
-			audio.dispose();
+		JglfwFrameCapture frameCapture = graphics.getFrameCapture();
+		if (frameCapture != null) frameCapture.dispose();
+		JglfwDynamicResolution dynamicResolution = graphics.getDynamicResolution();
+		if (dynamicResolution != null) dynamicResolution.dispose();
+		JglfwFrameLatency frameLatency = graphics.getFrameLatency();
+		if (frameLatency != null) frameLatency.dispose();
+		JglfwGLDebug glDebug = graphics.getGLDebug();
+		if (glDebug != null) {
+			glDebug.update(); // Report messages from disposing.
+			glDebug.dispose();
 		}
-		glfwReleaseCallbacks(graphics.window);
-		glfwTerminate();
-		if (forceExit) System.exit(-1);
+	}
+
+	/** Opens an additional window rendered by this application's main loop. Its context shares GL objects with the application's.
+	 * Must be called on the main loop thread. Not available in headless or pipelined mode.
+	 * @param config Window settings: size, position, title, buffer format and so on. Application wide settings are ignored. */
+	public JglfwWindow newWindow (ApplicationListener listener, JglfwApplicationConfiguration config) {
+		if (headless || renderThread != null)
+			throw new GdxRuntimeException("Additional windows are not supported in headless or pipelined mode.");
+		if (Thread.currentThread() != glThread) throw new GdxRuntimeException("Windows must be created on the main loop thread.");
+		JglfwWindow window = new JglfwWindow(this, listener, config);
+		makeMainCurrent();
+		windows.add(window);
+		graphics.requestRendering();
+		return window;
+	}
+
+	/** Returns the open additional windows. */
+	public Array<JglfwWindow> getWindows () {
+		return windows;
 	}
 
 	public ApplicationListener getApplicationListener () {
 		return listener;
 	}
 
+	/** Returns true if this application runs without a window or GL context.
+	 * @see JglfwApplicationConfiguration#headless */
+	public boolean isHeadless () {
+		return headless;
+	}
+
 	public JglfwGraphics getGraphics () {
 		return graphics;
 	}
@@ -409,10 +637,9 @@ public class JglfwApplication implements Application {
 	}
 
 	public void postRunnable (Runnable runnable) {
-		synchronized (runnables) {
-			runnables.add(runnable);
-			graphics.requestRendering();
-		}
+		runnables.offer(runnable);
+		if (renderThread != null) renderThread.wake();
+		graphics.requestRendering();
 	}
 
 	public boolean isPaused () {
@@ -431,6 +658,58 @@ public class JglfwApplication implements Application {
 		this.hiddenFPS = hiddenFPS;
 	}
 
+	/** Sets whether the main loop blocks waiting for events when rendering is not continuous and nothing needs rendering.
+	 * @see JglfwApplicationConfiguration#idleWaitEvents
+	 * @param timeout Maximum seconds to block, <= 0 to block until an event arrives. */
+	public void setIdleWaitEvents (boolean idleWaitEvents, double timeout) {
+		this.idleWaitEvents = idleWaitEvents;
+		this.idleTimeout = timeout;
+	}
+
+	/** Sets the fixed time step used with a {@link JglfwFixedStepListener}.
+	 * @see JglfwApplicationConfiguration#fixedTimeStep
+	 * @see JglfwApplicationConfiguration#maxFixedSteps */
+	public void setFixedTimeStep (float fixedTimeStep, int maxFixedSteps) {
+		this.fixedTimeStep = fixedTimeStep;
+		this.maxFixedSteps = maxFixedSteps;
+		fixedStepAccumulator = 0;
+	}
+
+	/** Returns the profiler recording the duration of each main loop phase. It is disabled unless
+	 * {@link JglfwApplicationConfiguration#frameProfiler} is set, see {@link JglfwFrameProfiler#setEnabled(boolean)}. */
+	public JglfwFrameProfiler getFrameProfiler () {
+		return profiler;
+	}
+
+	/** Sets the frame limiter used to reach the target FPS. The default is a {@link JglfwSync} owned by this application. */
+	public void setFrameLimiter (JglfwFrameLimiter frameLimiter) {
+		if (frameLimiter == null) throw new IllegalArgumentException("frameLimiter cannot be null.");
+		this.frameLimiter = frameLimiter;
+	}
+
+	public JglfwFrameLimiter getFrameLimiter () {
+		return frameLimiter;
+	}
+
+	/** Sets how much posted work is run each frame. Use 0 for no limit.
+	 * @see JglfwApplicationConfiguration#runnablesPerFrame
+	 * @see JglfwApplicationConfiguration#runnablesNanosPerFrame */
+	public void setRunnableBudget (int runnablesPerFrame, long runnablesNanosPerFrame) {
+		this.runnablesPerFrame = runnablesPerFrame;
+		this.runnablesNanosPerFrame = runnablesNanosPerFrame;
+	}
+
+	/** Returns the number of posted runnables left waiting at the end of the last {@link #executeRunnables()}. */
+	public int getDeferredRunnables () {
+		return deferredRunnables;
+	}
+
+	/** Returns how long, in nanoseconds, the oldest posted runnable has been waiting to run, or 0 if none are waiting. Must only be
+	 * called from the main loop thread. */
+	public long getRunnableQueueAge () {
+		return runnables.age();
+	}
+
 	protected boolean shouldExit () {
 		return true;
 	}
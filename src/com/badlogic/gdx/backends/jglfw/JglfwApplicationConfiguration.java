@@ -17,6 +17,7 @@
 package com.badlogic.gdx.backends.jglfw;
 
 import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Graphics.DisplayMode;
 import com.badlogic.gdx.graphics.Color;
 
@@ -27,6 +28,10 @@ public class JglfwApplicationConfiguration {
 	 * natives are not needed. */
 	public static boolean disableAudio;
 
+	/** True to run without GLFW: no window is created, {@link com.badlogic.gdx.Gdx#gl} is a call counting {@link JglfwNullGL30},
+	 * audio plays nothing and input is never pressed. The main loop, posted runnables, files and preferences work as usual. Useful
+	 * to run logic tests and benchmarks on machines without a GPU. **/
+	public boolean headless;
 	/** Title of application window. **/
 	public String title = "";
 	/** Initial width of the application window. **/
@@ -51,6 +56,12 @@ public class JglfwApplicationConfiguration {
 	public int samples = 0;
 	/** True to enable vsync. **/
 	public boolean vSync = true;
+	/** True to swap immediately when a frame misses the vertical blank, instead of waiting for the next one, if the driver
+	 * supports EXT_swap_control_tear. Tearing then replaces the stutter of dropping to half the refresh rate. **/
+	public boolean adaptiveVSync;
+	/** Maximum number of swapped frames the GPU may still be processing when a new frame starts, see
+	 * {@link JglfwGraphics#getFrameLatency()}. Use 0 to let the driver decide. **/
+	public int maxFramesInFlight;
 	/** True if the window is resizable. **/
 	public boolean resizable = true;
 	/** True to call System.exit() when the main loop is complete. **/
@@ -67,11 +78,72 @@ public class JglfwApplicationConfiguration {
 	public int backgroundFPS;
 	/** Target framerate when the window is hidden or minimized. The CPU sleeps as needed. Use 0 to never sleep, -1 to not render. **/
 	public int hiddenFPS = -1;
+	/** True to block the main loop in glfwWaitEvents while {@link JglfwGraphics#isContinuousRendering()} is false and nothing
+	 * requested rendering, instead of polling at the background FPS. Input events, {@link JglfwGraphics#requestRendering()} and
+	 * {@link JglfwApplication#postRunnable(Runnable)} wake it immediately. **/
+	public boolean idleWaitEvents;
+	/** Maximum seconds to block when {@link #idleWaitEvents} is true, or 0 to block until an event arrives. Streaming music is only
+	 * refilled when the loop wakes, so keep this short if music plays while idle. **/
+	public double idleTimeout = 0.1;
+	/** Simulation step in seconds for a {@link JglfwFixedStepListener}, eg 1 / 60f. Use 0 to call {@link ApplicationListener#render()}
+	 * once per frame with a variable delta. **/
+	public float fixedTimeStep;
+	/** Maximum number of {@link JglfwFixedStepListener#update(float)} calls per frame. When a frame falls further behind, the rest
+	 * of the backlog is dropped. Use 0 for no limit. **/
+	public int maxFixedSteps = 5;
+	/** True to run a {@link JglfwPipelinedListener} on two threads: game logic on the main loop thread and GL submission on a
+	 * render thread that owns the context. Ignored for other listeners. **/
+	public boolean pipelined;
+	/** Maximum number of posted runnables to run per frame. The rest are run in order on the next frames. Use 0 for no limit. **/
+	public int runnablesPerFrame;
+	/** Maximum time in nanoseconds to spend running posted runnables per frame. The rest are run in order on the next frames. At
+	 * least one runnable is run each frame. Use 0 for no limit. **/
+	public long runnablesNanosPerFrame;
+	/** True to record main loop phase timings from the start, see {@link JglfwApplication#getFrameProfiler()}. **/
+	public boolean frameProfiler;
+	/** True to expose the frame profiler percentiles over JMX. **/
+	public boolean frameProfilerJmx;
+	/** Number of timings kept per phase by the frame profiler. **/
+	public int frameProfilerSamples = 512;
 	/** Prefrences location on desktop. Default: current directory + ".prefs" */
 	public String preferencesLocation = ".prefs/";
 	/** whether to attempt use OpenGL ES 3.0. **/
 	public boolean useGL30 = false;
 
+	/** True to skip GL calls that set state which is already current: texture bindings per unit, capabilities, blend function,
+	 * program, depth state, cull face, buffer, framebuffer and vertex array bindings. GL calls that bypass
+	 * {@link JglfwGraphics#getGL20()}, eg straight to LWJGL, must be followed by {@link JglfwGraphics#invalidateGLState()}. **/
+	public boolean glStateCache = false;
+	/** True to count GL calls, draw calls, vertices, texture bindings, shader switches and buffer uploads per frame, see
+	 * {@link JglfwGLProfiler}. **/
+	public boolean glProfiler = false;
+	/** True to measure GPU time per frame and per named scope, see {@link JglfwGraphics#getGpuTimer()}. **/
+	public boolean gpuTimer = false;
+	/** Number of frames the GPU timer lets the GPU fall behind before dropping results. **/
+	public int gpuTimerLatency = 3;
+	/** True to allow screenshots, frame recording and pixel reads without stalling, see {@link JglfwGraphics#getFrameCapture()}. **/
+	public boolean frameCapture = false;
+	/** Maximum number of frames between the frame capture reading the back buffer and mapping the result. **/
+	public int frameCaptureLatency = 3;
+	/** Maximum number of captured frames waiting to be encoded before frames are dropped. **/
+	public int frameCaptureQueue = 4;
+	/** True to create a shared context on a background thread for loading GL resources, see {@link JglfwGraphics#getGLLoader()}. **/
+	public boolean glLoader = false;
+	/** True to store linked shader programs under {@link #preferencesLocation} and load them from there on later runs, skipping
+	 * compilation. Ignored if the driver can't retrieve program binaries. **/
+	public boolean programBinaryCache = false;
+	/** True to request a debug context and report driver errors and warnings, see {@link JglfwGraphics#getGLDebug()}. **/
+	public boolean glDebug = false;
+	/** Maximum number of debug messages waiting to be reported before messages are dropped. **/
+	public int glDebugQueue = 256;
+	/** True to lower the rendering resolution when frames miss the target frame rate, see
+	 * {@link JglfwGraphics#getDynamicResolution()}. **/
+	public boolean dynamicResolution = false;
+	/** Frame rate the dynamic resolution aims for. **/
+	public int dynamicResolutionTargetFPS = 60;
+	/** Smallest fraction of the window size the dynamic resolution renders at. **/
+	public float dynamicResolutionMinScale = 0.5f;
+
 	/** the maximum number of sources that can be played simultaneously */
 	public int audioDeviceSimultaneousSources = 16;
 	/** the audio device buffer size in samples **/
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Graphics.BufferFormat;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GLCapabilities;
+
+/** Renders the application at a lower resolution when frames take too long, then upscales to the window. Framebuffer 0, as seen
+ * through {@link JglfwGraphics#getGL20()}, is an offscreen framebuffer whose used area is the window size times
+ * {@link #getScale()}. Viewports and scissors set while framebuffer 0 is bound are scaled to match, so the application keeps
+ * working in window pixels: {@link JglfwGraphics#getWidth()}, {@link JglfwGraphics#getHeight()} and resize events are unaffected.
+ * At the end of each frame the used area is blitted to the window.
+ * <p>
+ * The scale follows the frame time, measured by the GPU timer when OpenGL 3.3 or ARB_timer_query is available, else the time
+ * between frames. It is lowered when the target frame time is missed for {@link #setDownFrames(int) several frames} in a row and
+ * raised a step when frames take well under the target for {@link #setUpFrames(int) many frames}, so it doesn't oscillate. After
+ * a change, frames rendered at the old scale are ignored. Without timer queries, vsync holds the time between frames at the
+ * target, so the scale is then only raised when vsync is off or the target is below the refresh rate.
+ * <p>
+ * The offscreen framebuffer isn't multisampled. Values queried from GL, eg GL_VIEWPORT, are in offscreen pixels. A viewport set
+ * for framebuffer 0 stays scaled if another framebuffer is bound without setting its own viewport, as libGDX's FrameBuffer does.
+ * Requires OpenGL 3.0 or ARB_framebuffer_object, else the scale stays 1. */
+public class JglfwDynamicResolution {
+	private final JglfwGraphics graphics;
+	private final BufferFormat bufferFormat;
+	private JglfwGpuTimer timer;
+	private boolean ownsTimer, initialized, supported, enabled = true;
+
+	private int framebuffer, colorBuffer, depthBuffer;
+	private int bufferWidth, bufferHeight;
+	private int width, height;
+	private float scale = 1, appliedScale = -1;
+	private float minScale, maxScale = 1, step = 0.05f;
+	private float targetMillis;
+	private int downFrames = 3, upFrames = 60, down, up, settle;
+	private long lastResultId = -1;
+
+	// The framebuffers the application bound, 0 meaning the offscreen framebuffer.
+	private int drawFramebuffer, readFramebuffer;
+	// Viewport and scissor last set for framebuffer 0, in window pixels.
+	private int viewportX, viewportY, viewportWidth, viewportHeight;
+	private int scissorX, scissorY, scissorWidth, scissorHeight;
+
+	JglfwDynamicResolution (JglfwGraphics graphics, JglfwApplicationConfiguration config) {
+		this.graphics = graphics;
+		bufferFormat = graphics.getBufferFormat();
+		timer = graphics.getGpuTimer();
+		if (timer == null) {
+			timer = new JglfwGpuTimer(2);
+			ownsTimer = true;
+		}
+		setScaleRange(config.dynamicResolutionMinScale, 1);
+		setTargetFPS(config.dynamicResolutionTargetFPS);
+		width = viewportWidth = scissorWidth = graphics.getWidth();
+		height = viewportHeight = scissorHeight = graphics.getHeight();
+	}
+
+	/** Adapts the scale and binds the offscreen framebuffer. Called on the rendering thread after the GPU timer's frame start. */
+	void frameStart () {
+		if (!initialized) {
+			initialized = true;
+			GLCapabilities caps = GL.getCapabilities();
+			supported = caps.OpenGL30 || caps.GL_ARB_framebuffer_object;
+		}
+		if (ownsTimer) timer.frameStart();
+		if (!supported) return;
+		if (enabled) adapt();
+
+		if (framebuffer == 0 || bufferWidth < Math.round(width * maxScale) || bufferHeight < Math.round(height * maxScale))
+			allocate();
+		GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, drawFramebuffer == 0 ? framebuffer : drawFramebuffer);
+		GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, readFramebuffer == 0 ? framebuffer : readFramebuffer);
+		graphics.invalidateFramebufferState();
+		if (scale != appliedScale) {
+			appliedScale = scale;
+			// Applications often set the viewport only on resize.
+			if (drawFramebuffer == 0) {
+				applyViewport();
+				applyScissor();
+			}
+		}
+	}
+
+	/** Blits the offscreen framebuffer to the window and leaves the window's framebuffer bound, so it can be captured and swapped.
+	 * Called on the rendering thread before the GPU timer's frame end. */
+	void frameEnd () {
+		if (framebuffer != 0) {
+			// Of the fragment operations, only the scissor test affects a blit.
+			boolean scissor = GL11.glIsEnabled(GL11.GL_SCISSOR_TEST);
+			if (scissor) GL11.glDisable(GL11.GL_SCISSOR_TEST);
+			GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, framebuffer);
+			GL30.glBindFramebuffer(GL30.GL_DRAW_FRAMEBUFFER, 0);
+			int renderWidth = getRenderWidth(), renderHeight = getRenderHeight();
+			GL30.glBlitFramebuffer(0, 0, renderWidth, renderHeight, 0, 0, width, height, GL11.GL_COLOR_BUFFER_BIT,
+				renderWidth == width && renderHeight == height ? GL11.GL_NEAREST : GL11.GL_LINEAR);
+			GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, 0);
+			if (scissor) GL11.glEnable(GL11.GL_SCISSOR_TEST);
+			graphics.invalidateFramebufferState();
+		}
+		if (ownsTimer) timer.frameEnd();
+	}
+
+	private void adapt () {
+		float millis;
+		if (timer.isSupported()) {
+			long resultId = timer.getResultFrameId();
+			if (resultId == lastResultId) return;
+			lastResultId = resultId;
+			millis = timer.getGpuFrameMillis();
+		} else
+			millis = graphics.getRawDeltaTime() * 1000;
+		if (settle > 0) {
+			settle--; // Rendered before the last change.
+			return;
+		}
+
+		// Vsync and timer jitter put frames slightly over the target without missing it.
+		if (millis > targetMillis * 1.05f) {
+			up = 0;
+			if (++down < downFrames) return;
+			// The cost is roughly proportional to the pixel count, aim a little under the target.
+			float newScale = scale * (float)Math.sqrt(targetMillis * 0.9f / millis);
+			changeScale(Math.min(newScale, scale - step));
+		} else if (millis < targetMillis * 0.75f) {
+			down = 0;
+			if (++up < upFrames) return;
+			changeScale(scale + step);
+		} else {
+			down = 0;
+			up = 0;
+		}
+	}
+
+	private void changeScale (float newScale) {
+		newScale = Math.max(minScale, Math.min(maxScale, newScale));
+		down = 0;
+		up = 0;
+		if (newScale == scale) return;
+		scale = newScale;
+		settle = timer.isSupported() ? timer.getLatency() + 1 : 1;
+	}
+
+	/** Allocates the offscreen framebuffer for the window size at the maximum scale, so scale changes don't reallocate. */
+	private void allocate () {
+		if (framebuffer != 0) GL30.glDeleteFramebuffers(framebuffer);
+		deleteRenderbuffers();
+		bufferWidth = Math.max(1, Math.round(width * maxScale));
+		bufferHeight = Math.max(1, Math.round(height * maxScale));
+
+		framebuffer = GL30.glGenFramebuffers();
+		GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, framebuffer);
+		colorBuffer = GL30.glGenRenderbuffers();
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, colorBuffer);
+		GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, bufferFormat.a > 0 ? GL11.GL_RGBA8 : GL11.GL_RGB8, bufferWidth,
+			bufferHeight);
+		GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, GL30.GL_COLOR_ATTACHMENT0, GL30.GL_RENDERBUFFER, colorBuffer);
+		if (bufferFormat.depth > 0 || bufferFormat.stencil > 0) {
+			depthBuffer = GL30.glGenRenderbuffers();
+			GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, depthBuffer);
+			boolean stencil = bufferFormat.stencil > 0;
+			GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, stencil ? GL30.GL_DEPTH24_STENCIL8 : GL30.GL_DEPTH_COMPONENT24,
+				bufferWidth, bufferHeight);
+			GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, stencil ? GL30.GL_DEPTH_STENCIL_ATTACHMENT
+				: GL30.GL_DEPTH_ATTACHMENT, GL30.GL_RENDERBUFFER, depthBuffer);
+		}
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, 0);
+		graphics.invalidateGLState(); // The framebuffer and renderbuffer bindings changed behind the state cache.
+		appliedScale = -1;
+	}
+
+	/** @return the framebuffer to bind in place of the given one. */
+	int bindFramebuffer (int target, int framebuffer) {
+		if (target != GL30.GL_READ_FRAMEBUFFER) drawFramebuffer = framebuffer;
+		if (target != GL30.GL_DRAW_FRAMEBUFFER) readFramebuffer = framebuffer;
+		return framebuffer == 0 && this.framebuffer != 0 ? this.framebuffer : framebuffer;
+	}
+
+	/** @return true if the viewport was set for framebuffer 0 and must not be set again. */
+	boolean viewport (int x, int y, int width, int height) {
+		if (drawFramebuffer != 0) return false;
+		viewportX = x;
+		viewportY = y;
+		viewportWidth = width;
+		viewportHeight = height;
+		if (framebuffer == 0) return false;
+		applyViewport();
+		return true;
+	}
+
+	/** @return true if the scissor was set for framebuffer 0 and must not be set again. */
+	boolean scissor (int x, int y, int width, int height) {
+		if (drawFramebuffer != 0) return false;
+		scissorX = x;
+		scissorY = y;
+		scissorWidth = width;
+		scissorHeight = height;
+		if (framebuffer == 0) return false;
+		applyScissor();
+		return true;
+	}
+
+	private void applyViewport () {
+		int x = Math.round(viewportX * scale), y = Math.round(viewportY * scale);
+		GL11.glViewport(x, y, Math.round((viewportX + viewportWidth) * scale) - x,
+			Math.round((viewportY + viewportHeight) * scale) - y);
+	}
+
+	private void applyScissor () {
+		int x = Math.round(scissorX * scale), y = Math.round(scissorY * scale);
+		GL11.glScissor(x, y, Math.round((scissorX + scissorWidth) * scale) - x, Math.round((scissorY + scissorHeight) * scale) - y);
+	}
+
+	/** Called when the window's framebuffer size changed. */
+	void sizeChanged (int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/** Called when the window was recreated with a new context. Framebuffers aren't shared between contexts. */
+	void contextChanged () {
+		deleteRenderbuffers();
+		framebuffer = 0;
+		drawFramebuffer = readFramebuffer = 0;
+	}
+
+	/** Deletes the offscreen framebuffer. Called on the rendering thread. */
+	void dispose () {
+		if (framebuffer != 0) {
+			GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, 0);
+			GL30.glDeleteFramebuffers(framebuffer);
+			framebuffer = 0;
+			graphics.invalidateFramebufferState();
+		}
+		deleteRenderbuffers();
+	}
+
+	private void deleteRenderbuffers () {
+		if (colorBuffer != 0) GL30.glDeleteRenderbuffers(colorBuffer);
+		if (depthBuffer != 0) GL30.glDeleteRenderbuffers(depthBuffer);
+		colorBuffer = depthBuffer = 0;
+	}
+
+	/** Returns the fraction of the window size the application renders at, between the minimum and maximum scale. */
+	public float getScale () {
+		return scale;
+	}
+
+	/** Sets the scale, eg to start at a lower resolution. Adaptation continues from there unless disabled. */
+	public void setScale (float scale) {
+		changeScale(scale);
+	}
+
+	/** Returns the width in pixels the application renders at. */
+	public int getRenderWidth () {
+		return Math.max(1, Math.round(width * scale));
+	}
+
+	/** Returns the height in pixels the application renders at. */
+	public int getRenderHeight () {
+		return Math.max(1, Math.round(height * scale));
+	}
+
+	/** @param max Above 1 renders at a higher resolution than the window when there is time, ie supersampling. */
+	public void setScaleRange (float min, float max) {
+		if (min <= 0 || min > max) throw new IllegalArgumentException("Invalid scale range: " + min + ", " + max);
+		minScale = min;
+		maxScale = max;
+		changeScale(scale);
+	}
+
+	public float getMinScale () {
+		return minScale;
+	}
+
+	public float getMaxScale () {
+		return maxScale;
+	}
+
+	/** Sets the amount the scale is raised at once, default 0.05. */
+	public void setStep (float step) {
+		if (step <= 0) throw new IllegalArgumentException("step must be > 0: " + step);
+		this.step = step;
+	}
+
+	public void setTargetFPS (int fps) {
+		if (fps <= 0) throw new IllegalArgumentException("fps must be > 0: " + fps);
+		targetMillis = 1000f / fps;
+	}
+
+	/** Sets the number of consecutive frames over the target frame time before the scale is lowered, default 3. */
+	public void setDownFrames (int frames) {
+		downFrames = Math.max(1, frames);
+	}
+
+	/** Sets the number of consecutive frames taking under 75% of the target frame time before the scale is raised, default 60. */
+	public void setUpFrames (int frames) {
+		upFrames = Math.max(1, frames);
+	}
+
+	/** Returns false if the GL context lacks framebuffer blits. Only meaningful once a frame has been rendered. */
+	public boolean isSupported () {
+		return supported;
+	}
+
+	public boolean isEnabled () {
+		return enabled;
+	}
+
+	/** When disabled the scale no longer adapts, but rendering still goes through the offscreen framebuffer at the current scale. */
+	public void setEnabled (boolean enabled) {
+		this.enabled = enabled;
+	}
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.ApplicationListener;
+
+/** An {@link ApplicationListener} that separates simulation from rendering. When
+ * {@link JglfwApplicationConfiguration#fixedTimeStep} is set, each frame the application calls {@link #update(float)} as many
+ * times as needed to catch up with real time (up to {@link JglfwApplicationConfiguration#maxFixedSteps}), then calls
+ * {@link #render(float)} instead of {@link #render()}. Without a fixed time step, {@link #render()} is called as usual. */
+public interface JglfwFixedStepListener extends ApplicationListener {
+	/** Advances the simulation by exactly one step.
+	 * @param fixedDelta The fixed time step, in seconds. */
+	public void update (float fixedDelta);
+
+	/** Renders the current state.
+	 * @param alpha How far, in [0, 1), real time is between the last simulated step and the next one. Use it to interpolate
+	 *           between the previous and current simulation states. */
+	public void render (float alpha);
+}
@@ -0,0 +1,448 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.StreamUtils;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/** Captures screenshots, frame sequences and single pixels without stalling the GPU. The back buffer is read into a ring of
+ * GL_PIXEL_PACK_BUFFER slots at the end of a frame and each slot is mapped once its fence has signalled, or at the latest
+ * {@link #getLatency()} frames later. Frames are copied into pooled pixmaps and encoded, as PNG or raw RGBA8888, on a worker
+ * thread.
+ * <p>
+ * When every slot is in flight, or the worker has fallen behind and no pixmap is free, the frame is dropped and counted, see
+ * {@link #getDroppedFrames()}. With {@link #setBlockWhenBusy(boolean)} the main loop waits for the worker instead.
+ * <p>
+ * Requests may be made from any thread. Without OpenGL 3.0 or ARB_map_buffer_range the pixels are read synchronously. */
+public class JglfwFrameCapture implements Disposable {
+	private final int latency;
+	private final Slot[] slots, inFlight;
+	private int freeSlots, inFlightStart, inFlightCount;
+	private boolean initialized, async, fences;
+	private long frameId;
+
+	private final ArrayBlockingQueue<Job> idleJobs, queuedJobs;
+	private final Job stopJob = new Job();
+	private Thread worker;
+	private volatile boolean blockWhenBusy;
+	private volatile int droppedFrames, capturedFrames;
+
+	private final Array<FileHandle> screenshots = new Array();
+	private Array<Pick> picks = new Array(), issuedPicks = new Array();
+	private FileHandle recordDirectory;
+	private boolean recordPng;
+	private int recordFrame;
+	private ByteBuffer pixelBuffer;
+
+	/** @param latency Maximum number of frames between reading a frame and mapping it.
+	 * @param queueSize Maximum number of frames waiting to be encoded. */
+	public JglfwFrameCapture (int latency, int queueSize) {
+		if (latency <= 0) throw new IllegalArgumentException("latency must be > 0: " + latency);
+		if (queueSize <= 0) throw new IllegalArgumentException("queueSize must be > 0: " + queueSize);
+		this.latency = latency;
+		// A frame and a pixel read per frame.
+		slots = new Slot[latency * 2];
+		inFlight = new Slot[slots.length];
+		idleJobs = new ArrayBlockingQueue<Job>(queueSize);
+		queuedJobs = new ArrayBlockingQueue<Job>(queueSize + 1);
+		for (int i = 0; i < queueSize; i++)
+			idleJobs.add(new Job());
+	}
+
+	/** Writes the next frame to the file as PNG. */
+	public synchronized void screenshot (FileHandle file) {
+		screenshots.add(file);
+	}
+
+	/** Writes every following frame into the directory, named frame-000000.png or frame-000000-WxH.rgba.
+	 * @param png True to encode PNG, false to write raw RGBA8888 rows, bottom row last. */
+	public synchronized void startRecording (FileHandle directory, boolean png) {
+		directory.mkdirs();
+		recordDirectory = directory;
+		recordPng = png;
+		recordFrame = 0;
+	}
+
+	public synchronized void stopRecording () {
+		recordDirectory = null;
+	}
+
+	public synchronized boolean isRecording () {
+		return recordDirectory != null;
+	}
+
+	/** Reads the RGBA8888 color of a back buffer pixel at the end of the frame. The listener is notified on the GL thread, a few
+	 * frames later.
+	 * @param x The x coordinate, from the left.
+	 * @param y The y coordinate, from the bottom as in GL. */
+	public synchronized void readPixel (int x, int y, PixelListener listener) {
+		Pick pick = new Pick();
+		pick.x = x;
+		pick.y = y;
+		pick.listener = listener;
+		picks.add(pick);
+	}
+
+	private void initialize () {
+		initialized = true;
+		GLCapabilities caps = GL.getCapabilities();
+		async = caps.OpenGL30 || caps.GL_ARB_map_buffer_range;
+		fences = caps.OpenGL32 || caps.GL_ARB_sync;
+		if (async) {
+			for (int i = 0; i < slots.length; i++) {
+				Slot slot = new Slot();
+				slot.pbo = Gdx.gl.glGenBuffer();
+				slots[i] = slot;
+			}
+			freeSlots = slots.length;
+		}
+		pixelBuffer = BufferUtils.newByteBuffer(4).order(ByteOrder.BIG_ENDIAN);
+		worker = new Thread("FrameCapture") {
+			public void run () {
+				encode();
+			}
+		};
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/** Maps finished slots and reads the back buffer for the pending requests. Called on the GL thread after the listener has
+	 * rendered, before swapping buffers. */
+	void frameEnd (int width, int height) {
+		frameId++;
+		if (inFlightCount > 0) collect();
+
+		FileHandle file = null;
+		boolean png = true;
+		synchronized (this) {
+			if (screenshots.size > 0)
+				file = screenshots.removeIndex(0);
+			else if (recordDirectory != null) {
+				png = recordPng;
+				file = recordDirectory.child(png ? String.format("frame-%06d.png", recordFrame)
+					: String.format("frame-%06d-%dx%d.rgba", recordFrame, width, height));
+				recordFrame++;
+			}
+			if (picks.size > 0) {
+				Array<Pick> temp = picks;
+				picks = issuedPicks;
+				issuedPicks = temp;
+			}
+		}
+		if (file == null && issuedPicks.size == 0) return;
+		if (!initialized) initialize();
+
+		if (file != null) readFrame(file, png, width, height);
+		for (int i = 0, n = issuedPicks.size; i < n; i++)
+			readPixel(issuedPicks.get(i));
+		issuedPicks.clear();
+	}
+
+	private void readFrame (FileHandle file, boolean png, int width, int height) {
+		if (!async) {
+			Job job = obtainJob(width, height);
+			if (job == null) return;
+			ByteBuffer pixels = job.pixmap.getPixels();
+			pixels.clear();
+			Gdx.gl.glPixelStorei(GL20.GL_PACK_ALIGNMENT, 1);
+			Gdx.gl.glReadPixels(0, 0, width, height, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+			flip(pixels, width, height);
+			queue(job, file, png);
+			return;
+		}
+		Slot slot = obtainSlot();
+		if (slot == null) {
+			droppedFrames++;
+			return;
+		}
+		slot.file = file;
+		slot.png = png;
+		slot.width = width;
+		slot.height = height;
+		issue(slot, 0, 0, width, height);
+	}
+
+	private void readPixel (Pick pick) {
+		if (!async) {
+			ByteBuffer pixels = pixelBuffer;
+			pixels.clear();
+			Gdx.gl.glPixelStorei(GL20.GL_PACK_ALIGNMENT, 1);
+			Gdx.gl.glReadPixels(pick.x, pick.y, 1, 1, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
+			pick.listener.pixel(pick.x, pick.y, pixels.getInt(0));
+			return;
+		}
+		Slot slot = obtainSlot();
+		if (slot == null) {
+			// Keep the pick for the next frame rather than losing it.
+			synchronized (this) {
+				picks.add(pick);
+			}
+			return;
+		}
+		slot.pick = pick;
+		slot.width = 1;
+		slot.height = 1;
+		issue(slot, pick.x, pick.y, 1, 1);
+	}
+
+	private void issue (Slot slot, int x, int y, int width, int height) {
+		int bytes = width * height * 4;
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, slot.pbo);
+		if (slot.capacity < bytes) {
+			GL15.glBufferData(GL21.GL_PIXEL_PACK_BUFFER, bytes, GL15.GL_STREAM_READ);
+			slot.capacity = bytes;
+		}
+		Gdx.gl.glPixelStorei(GL20.GL_PACK_ALIGNMENT, 1);
+		// With a pixel pack buffer bound, a null buffer is offset 0 into it.
+		Gdx.gl.glReadPixels(x, y, width, height, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, null);
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+		if (fences) slot.fence = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		slot.frameId = frameId;
+		inFlight[(inFlightStart + inFlightCount) % inFlight.length] = slot;
+		inFlightCount++;
+	}
+
+	/** Maps the slots the GPU has finished writing, oldest first. A slot {@link #latency} frames old is mapped even if its fence has
+	 * not signalled, which waits for the GPU. */
+	private void collect () {
+		while (inFlightCount > 0) {
+			Slot slot = inFlight[inFlightStart];
+			if (slot.fence != 0) {
+				boolean old = frameId - slot.frameId >= latency;
+				if (!old && GL32.glClientWaitSync(slot.fence, 0, 0) == GL32.GL_TIMEOUT_EXPIRED) break;
+				GL32.glDeleteSync(slot.fence);
+				slot.fence = 0;
+			} else if (frameId - slot.frameId < latency) //
+				break;
+
+			inFlight[inFlightStart] = null;
+			inFlightStart = (inFlightStart + 1) % inFlight.length;
+			inFlightCount--;
+			read(slot);
+			slot.file = null;
+			slot.pick = null;
+			slots[freeSlots++] = slot;
+		}
+	}
+
+	private void read (Slot slot) {
+		int bytes = slot.width * slot.height * 4;
+		Job job = slot.pick == null ? obtainJob(slot.width, slot.height) : null;
+		if (slot.pick == null && job == null) return;
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, slot.pbo);
+		ByteBuffer mapped = GL30.glMapBufferRange(GL21.GL_PIXEL_PACK_BUFFER, 0, bytes, GL30.GL_MAP_READ_BIT);
+		if (mapped != null) {
+			if (job == null)
+				slot.pick.listener.pixel(slot.pick.x, slot.pick.y, mapped.order(ByteOrder.BIG_ENDIAN).getInt(0));
+			else {
+				ByteBuffer pixels = job.pixmap.getPixels();
+				pixels.clear();
+				// GL rows go bottom up, pixmap rows top down.
+				int stride = slot.width * 4;
+				for (int row = slot.height - 1; row >= 0; row--) {
+					mapped.limit(row * stride + stride);
+					mapped.position(row * stride);
+					pixels.put(mapped);
+				}
+				pixels.clear();
+				queue(job, slot.file, slot.png);
+			}
+			GL15.glUnmapBuffer(GL21.GL_PIXEL_PACK_BUFFER);
+		} else if (job != null) {
+			idleJobs.offer(job);
+			droppedFrames++;
+		}
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+	}
+
+	private Slot obtainSlot () {
+		if (freeSlots == 0) return null;
+		Slot slot = slots[--freeSlots];
+		slots[freeSlots] = null;
+		return slot;
+	}
+
+	/** Returns a job with a pixmap of the given size, or null if the worker is behind and the frame is dropped. */
+	private Job obtainJob (int width, int height) {
+		Job job;
+		if (blockWhenBusy) {
+			try {
+				job = idleJobs.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		} else {
+			job = idleJobs.poll();
+			if (job == null) {
+				droppedFrames++;
+				return null;
+			}
+		}
+		if (job.pixmap == null || job.pixmap.getWidth() != width || job.pixmap.getHeight() != height) {
+			if (job.pixmap != null) job.pixmap.dispose();
+			job.pixmap = new Pixmap(width, height, Format.RGBA8888);
+		}
+		return job;
+	}
+
+	private void queue (Job job, FileHandle file, boolean png) {
+		job.file = file;
+		job.png = png;
+		queuedJobs.offer(job);
+	}
+
+	/** Flips the rows of a frame read bottom up. */
+	private void flip (ByteBuffer pixels, int width, int height) {
+		int stride = width * 4;
+		byte[] row = new byte[stride], row2 = new byte[stride];
+		for (int top = 0, bottom = height - 1; top < bottom; top++, bottom--) {
+			pixels.position(top * stride);
+			pixels.get(row);
+			pixels.position(bottom * stride);
+			pixels.get(row2);
+			pixels.position(bottom * stride);
+			pixels.put(row);
+			pixels.position(top * stride);
+			pixels.put(row2);
+		}
+		pixels.clear();
+	}
+
+	/** Runs on the worker thread. */
+	void encode () {
+		while (true) {
+			Job job;
+			try {
+				job = queuedJobs.take();
+			} catch (InterruptedException ex) {
+				return;
+			}
+			if (job == stopJob) return;
+			try {
+				if (job.png)
+					PixmapIO.writePNG(job.file, job.pixmap);
+				else {
+					FileOutputStream output = new FileOutputStream(job.file.file());
+					try {
+						FileChannel channel = output.getChannel();
+						ByteBuffer pixels = job.pixmap.getPixels();
+						pixels.clear();
+						while (pixels.hasRemaining())
+							channel.write(pixels);
+					} finally {
+						StreamUtils.closeQuietly(output);
+					}
+				}
+				capturedFrames++;
+			} catch (Throwable ex) {
+				Gdx.app.error("JglfwFrameCapture", "Unable to write frame: " + job.file, ex);
+			}
+			job.file = null;
+			idleJobs.offer(job);
+		}
+	}
+
+	/** Returns the number of frames dropped because every slot was in flight or the worker was behind. */
+	public int getDroppedFrames () {
+		return droppedFrames;
+	}
+
+	/** Returns the number of frames written. */
+	public int getCapturedFrames () {
+		return capturedFrames;
+	}
+
+	public int getLatency () {
+		return latency;
+	}
+
+	/** When true the main loop waits for the worker instead of dropping frames. Default is false. */
+	public void setBlockWhenBusy (boolean blockWhenBusy) {
+		this.blockWhenBusy = blockWhenBusy;
+	}
+
+	/** Waits for queued frames to be written and releases the GL resources. Called on the GL thread. */
+	public void dispose () {
+		if (!initialized) return;
+		initialized = false;
+		while (inFlightCount > 0) {
+			Slot slot = inFlight[inFlightStart];
+			slot.frameId = frameId - latency; // Map now.
+			collect();
+		}
+		queuedJobs.offer(stopJob);
+		try {
+			worker.join();
+		} catch (InterruptedException ignored) {
+		}
+		for (int i = 0; i < freeSlots; i++) {
+			Gdx.gl.glDeleteBuffer(slots[i].pbo);
+			slots[i] = null;
+		}
+		freeSlots = 0;
+		Job job;
+		while ((job = idleJobs.poll()) != null)
+			if (job.pixmap != null) job.pixmap.dispose();
+	}
+
+	/** Notified with the color of a pixel requested by {@link JglfwFrameCapture#readPixel(int, int, PixelListener)}. */
+	static public interface PixelListener {
+		/** @param rgba8888 The color, see {@link com.badlogic.gdx.graphics.Color#rgba8888ToColor}. */
+		public void pixel (int x, int y, int rgba8888);
+	}
+
+	static private class Slot {
+		int pbo, capacity;
+		long fence, frameId;
+		int width, height;
+		FileHandle file;
+		boolean png;
+		Pick pick;
+	}
+
+	static private class Pick {
+		int x, y;
+		PixelListener listener;
+	}
+
+	static private class Job {
+		Pixmap pixmap;
+		FileHandle file;
+		boolean png;
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.utils.LongArray;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GLCapabilities;
+
+import static org.lwjgl.opengl.GL32.*;
+
+/** Limits how many frames the driver may queue ahead of the GPU, see {@link JglfwApplicationConfiguration#maxFramesInFlight}.
+ * With vsync the driver may otherwise buffer several frames, each adding a refresh interval between reading input and the
+ * result appearing on screen. A fence is inserted after each swap. Before a frame starts, the rendering thread waits until fewer
+ * than the maximum number of frames are still being processed. Unless the application is pipelined, the wait happens before
+ * input is polled, so input is read as late as possible. The limiter does nothing without OpenGL 3.2 or ARB_sync. */
+public class JglfwFrameLatency {
+	static private final long waitTimeout = 100000000; // 100ms, sync objects are waited in slices.
+
+	private final LongArray fences = new LongArray();
+	private int maxFramesInFlight;
+	private boolean initialized, supported;
+	private int queueDepth, framesWaited;
+	private long waitNanos, totalWaitNanos;
+
+	/** @param maxFramesInFlight See {@link #setMaxFramesInFlight(int)}. */
+	public JglfwFrameLatency (int maxFramesInFlight) {
+		setMaxFramesInFlight(maxFramesInFlight);
+	}
+
+	/** Waits until fewer than the maximum number of swapped frames are still being processed. Called on the rendering thread
+	 * before a frame starts. */
+	void frameStart () {
+		if (!initialized) {
+			initialized = true;
+			GLCapabilities caps = GL.getCapabilities();
+			supported = caps.OpenGL32 || caps.GL_ARB_sync;
+		}
+		if (!supported) return;
+
+		// Drop frames the GPU has finished, without waiting.
+		while (fences.size > 0 && glClientWaitSync(fences.first(), 0, 0) != GL_TIMEOUT_EXPIRED)
+			glDeleteSync(fences.removeIndex(0));
+		queueDepth = fences.size;
+
+		waitNanos = 0;
+		if (fences.size < maxFramesInFlight) return;
+		long start = System.nanoTime();
+		while (fences.size >= maxFramesInFlight) {
+			long fence = fences.first();
+			// The fence was inserted after the swap and may not have been flushed yet.
+			int result = glClientWaitSync(fence, GL_SYNC_FLUSH_COMMANDS_BIT, waitTimeout);
+			if (result == GL_TIMEOUT_EXPIRED) continue;
+			glDeleteSync(fences.removeIndex(0));
+			if (result == GL_WAIT_FAILED) break;
+		}
+		waitNanos = System.nanoTime() - start;
+		totalWaitNanos += waitNanos;
+		framesWaited++;
+	}
+
+	/** Marks the end of the frame's commands. Called on the rendering thread after swapping buffers. */
+	void frameSwapped () {
+		if (!supported) return;
+		fences.add(glFenceSync(GL_SYNC_GPU_COMMANDS_COMPLETE, 0));
+	}
+
+	/** Deletes the fences. Called on the rendering thread. */
+	void dispose () {
+		for (int i = 0; i < fences.size; i++)
+			glDeleteSync(fences.get(i));
+		fences.clear();
+	}
+
+	/** @param maxFramesInFlight Number of swapped frames the GPU may still be processing when a new frame starts. 1 starts each
+	 *           frame only after the GPU finished the previous one, for the lowest latency at the cost of CPU and GPU overlap. 2 is
+	 *           a good compromise. */
+	public void setMaxFramesInFlight (int maxFramesInFlight) {
+		if (maxFramesInFlight < 1) throw new IllegalArgumentException("maxFramesInFlight must be >= 1: " + maxFramesInFlight);
+		this.maxFramesInFlight = maxFramesInFlight;
+	}
+
+	public int getMaxFramesInFlight () {
+		return maxFramesInFlight;
+	}
+
+	/** Returns the number of swapped frames the GPU was still processing when the last frame started, before waiting. */
+	public int getQueueDepth () {
+		return queueDepth;
+	}
+
+	/** Returns the time the last frame waited for the GPU, in milliseconds. */
+	public float getWaitMillis () {
+		return waitNanos / 1000000f;
+	}
+
+	/** Returns the time spent waiting for the GPU since the start, in milliseconds. */
+	public float getTotalWaitMillis () {
+		return totalWaitNanos / 1000000f;
+	}
+
+	/** Returns the number of frames that had to wait for the GPU. */
+	public int getFramesWaited () {
+		return framesWaited;
+	}
+
+	/** Returns false if the GL context lacks sync objects. Only meaningful once a frame has been rendered. */
+	public boolean isSupported () {
+		return supported;
+	}
+}
@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+/** Paces the main loop of a {@link JglfwApplication}. Each application has its own instance, see
+ * {@link JglfwApplication#setFrameLimiter(JglfwFrameLimiter)}. The default is {@link JglfwSync}. */
+public interface JglfwFrameLimiter {
+	/** Called once at the end of every frame from the main loop thread. Blocks until the next frame should start.
+	 * @param fps The desired frame rate, in frames per second. Values <= 0 mean no limit. */
+	public void sync (int fps);
+}
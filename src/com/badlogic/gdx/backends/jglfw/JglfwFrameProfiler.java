@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/** Records how long each phase of the {@link JglfwApplication} main loop takes. Samples go into a fixed size ring per phase, so
+ * recording never allocates, and when disabled each phase costs a single branch. Percentiles are computed on demand, from
+ * {@link #getPercentile(int, float)} or over JMX once {@link #registerMBean()} has been called.
+ * <p>
+ * Samples are recorded on the main thread without locking. Values read from another thread, eg over JMX, are approximate: they
+ * may include a sample being written. {@link #reset()} only requests discarding the samples, which happens on the main thread at
+ * the next recorded phase.
+ * <p>
+ * In pipelined mode {@link #RENDER} measures the listener update plus the wait for the render thread, and {@link #SWAP} is not
+ * recorded. */
+public class JglfwFrameProfiler implements JglfwFrameProfilerMBean {
+	/** Running posted runnables. */
+	static public final int RUNNABLES = 0;
+	/** Polling or waiting for input events. */
+	static public final int INPUT = 1;
+	/** Updating audio. */
+	static public final int AUDIO = 2;
+	/** The listener's render method. */
+	static public final int RENDER = 3;
+	/** glfwSwapBuffers. */
+	static public final int SWAP = 4;
+	/** Waiting in the frame limiter. */
+	static public final int SYNC = 5;
+	/** The whole main loop iteration. */
+	static public final int FRAME = 6;
+
+	static private final String[] phaseNames = {"runnables", "input", "audio", "render", "swap", "sync", "frame"};
+	static private final int PHASES = phaseNames.length;
+
+	private final long[][] samples;
+	private final int[] counts = new int[PHASES], offsets = new int[PHASES];
+	private final long[] sorted;
+	private volatile boolean enabled, resetRequested;
+	private ObjectName objectName;
+
+	/** @param sampleCount Number of samples kept per phase. */
+	public JglfwFrameProfiler (int sampleCount) {
+		if (sampleCount <= 0) throw new IllegalArgumentException("sampleCount must be > 0: " + sampleCount);
+		samples = new long[PHASES][sampleCount];
+		sorted = new long[sampleCount];
+	}
+
+	/** Returns the current time if enabled, else 0. Pass the result to {@link #record(int, long)} when the phase ends. */
+	long start () {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/** Records the time since start for the phase if enabled.
+	 * @return the current time if enabled, else 0, to be used as the start of the next phase. */
+	long record (int phase, long start) {
+		if (!enabled) return 0;
+		if (resetRequested) {
+			resetRequested = false;
+			for (int i = 0; i < PHASES; i++) {
+				counts[i] = 0;
+				offsets[i] = 0;
+			}
+		}
+		long now = System.nanoTime();
+		if (start != 0) {
+			long[] phaseSamples = samples[phase];
+			int offset = offsets[phase];
+			phaseSamples[offset] = now - start;
+			offsets[phase] = (offset + 1) % phaseSamples.length;
+			if (counts[phase] < phaseSamples.length) counts[phase]++;
+		}
+		return now;
+	}
+
+	/** Returns the given percentile of the phase's recorded times, in nanoseconds, or 0 if nothing was recorded.
+	 * @param phase One of the phase constants, eg {@link #RENDER}.
+	 * @param percentile In [0, 1], eg 0.99f. */
+	public synchronized long getPercentile (int phase, float percentile) {
+		int count = counts[phase];
+		if (count == 0) return 0;
+		// Synchronized only because readers share the sort buffer, recording takes no lock.
+		System.arraycopy(samples[phase], 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		return sorted[Math.min(count - 1, (int)(count * percentile))];
+	}
+
+	/** Returns the most recent recorded time of the phase, in nanoseconds. */
+	public long getLast (int phase) {
+		if (counts[phase] == 0) return 0;
+		long[] phaseSamples = samples[phase];
+		return phaseSamples[(offsets[phase] + phaseSamples.length - 1) % phaseSamples.length];
+	}
+
+	static public String getPhaseName (int phase) {
+		return phaseNames[phase];
+	}
+
+	public String[] getPhaseNames () {
+		return phaseNames.clone();
+	}
+
+	public double[] getPercentilesMillis (String phaseName) {
+		for (int phase = 0; phase < PHASES; phase++) {
+			if (!phaseNames[phase].equals(phaseName)) continue;
+			return new double[] {getPercentile(phase, 0.5f) / 1000000.0, getPercentile(phase, 0.95f) / 1000000.0,
+				getPercentile(phase, 0.99f) / 1000000.0};
+		}
+		return null;
+	}
+
+	public boolean isEnabled () {
+		return enabled;
+	}
+
+	public void setEnabled (boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/** Discards all recorded samples, at the next recorded phase. */
+	public void reset () {
+		resetRequested = true;
+	}
+
+	/** Registers this profiler with the platform MBean server under "com.badlogic.gdx.backends.jglfw:type=FrameProfiler". */
+	public void registerMBean () {
+		if (objectName != null) return;
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName("com.badlogic.gdx.backends.jglfw:type=FrameProfiler,id="
+				+ Integer.toHexString(System.identityHashCode(this)));
+			server.registerMBean(this, name);
+			objectName = name;
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Unable to register frame profiler MBean.", ex);
+		}
+	}
+
+	public void unregisterMBean () {
+		if (objectName == null) return;
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (Exception ignored) {
+		}
+		objectName = null;
+	}
+}
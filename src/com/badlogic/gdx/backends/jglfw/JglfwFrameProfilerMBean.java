@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+/** JMX view of a {@link JglfwFrameProfiler}. */
+public interface JglfwFrameProfilerMBean {
+	public boolean isEnabled ();
+
+	public void setEnabled (boolean enabled);
+
+	public String[] getPhaseNames ();
+
+	/** Returns the p50, p95 and p99 of the given phase in milliseconds, or null if the phase name is unknown. */
+	public double[] getPercentilesMillis (String phaseName);
+
+	public void reset ();
+}
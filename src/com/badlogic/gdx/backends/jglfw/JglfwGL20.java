@@ -18,68 +18,93 @@ package com.badlogic.gdx.backends.jglfw;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.PointerBuffer;
 import org.lwjgl.opengl.ARBES2Compatibility;
 import org.lwjgl.opengl.EXTFramebufferObject;
+import org.lwjgl.opengl.GL;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL13;
 import org.lwjgl.opengl.GL14;
 import org.lwjgl.opengl.GL15;
 import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL40;
+import org.lwjgl.opengl.GL43;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.system.MemoryUtil;
 
 /**
  * @author mzechner
  * @author Nathan Sweet
  * @author Edu Garcia (arcnor) */
-public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
-	private ByteBuffer buffer = null;
-	private FloatBuffer floatBuffer = null;
-	private IntBuffer intBuffer = null;
-
-	private void ensureBufferCapacity (int numBytes) {
-		if (buffer == null || buffer.capacity() < numBytes) {
-			buffer = com.badlogic.gdx.utils.BufferUtils.newByteBuffer(numBytes);
-			floatBuffer = buffer.asFloatBuffer();
-			intBuffer = buffer.asIntBuffer();
-		}
+public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20, JglfwGLMultiDraw {
+	GLStateCache stateCache;
+	ProgramBinaryCache programCache;
+	JglfwDynamicResolution dynamicResolution;
+
+	/** Returns the native address of the buffer's position, or 0 for null. For the untyped {@link Buffer} arguments of the GL
+	 * interfaces, so the calls are the same whatever the buffer type and never allocate views. At position 0, as libGDX passes
+	 * vertices, indices and pixels, the address doesn't depend on the element size and the buffer type isn't looked up. Typed
+	 * buffers use the overloads below, which never look it up. */
+	static long address (Buffer buffer) {
+		if (buffer == null) return 0;
+		if (buffer.position() == 0) return address(buffer, 0);
+		if (buffer instanceof ByteBuffer) return address(buffer, 0);
+		if (buffer instanceof FloatBuffer || buffer instanceof IntBuffer) return address(buffer, 2);
+		if (buffer instanceof ShortBuffer || buffer instanceof CharBuffer) return address(buffer, 1);
+		return address(buffer, 3); // DoubleBuffer or LongBuffer.
 	}
 
-	private FloatBuffer toFloatBuffer (float v[], int offset, int count) {
-		ensureBufferCapacity(count << 2);
-		floatBuffer.clear();
-		com.badlogic.gdx.utils.BufferUtils.copy(v, floatBuffer, count, offset);
-		return floatBuffer;
+	static long address (ByteBuffer buffer) {
+		return address(buffer, 0);
 	}
 
-	private IntBuffer toIntBuffer (int v[], int offset, int count) {
-		ensureBufferCapacity(count << 2);
-		intBuffer.clear();
-		com.badlogic.gdx.utils.BufferUtils.copy(v, count, offset, intBuffer);
-		return intBuffer;
+	static long address (ShortBuffer buffer) {
+		return address(buffer, 1);
 	}
-	
-	private IntBuffer toIntBuffer (int v) {
-		ensureBufferCapacity(4);
-		intBuffer.put(0, v);
-		intBuffer.position(0);
-		intBuffer.limit(1);
-		return intBuffer;
+
+	static long address (IntBuffer buffer) {
+		return address(buffer, 2);
 	}
-	
+
+	static long address (FloatBuffer buffer) {
+		return address(buffer, 2);
+	}
+
+	static long address (LongBuffer buffer) {
+		return address(buffer, 3);
+	}
+
+	static long address (DoubleBuffer buffer) {
+		return address(buffer, 3);
+	}
+
+	/** @param shift log2 of the buffer's element size in bytes. */
+	static private long address (Buffer buffer, int shift) {
+		if (buffer == null) return 0;
+		if (!buffer.isDirect()) throw new GdxRuntimeException("Buffer must be direct: " + buffer.getClass().getName());
+		return MemoryUtil.memAddress0(buffer) + ((long)buffer.position() << shift);
+	}
+
 	public void glActiveTexture (int texture) {
+		if (stateCache != null && !stateCache.activeTexture(texture)) return;
 		GL13.glActiveTexture(texture);
 	}
 
 	public void glBindTexture (int target, int texture) {
+		if (stateCache != null && !stateCache.bindTexture(target, texture)) return;
 		GL11.glBindTexture(target, texture);
 	}
 
 	public void glBlendFunc (int sfactor, int dfactor) {
+		if (stateCache != null && !stateCache.blendFunc(sfactor, dfactor, sfactor, dfactor)) return;
 		GL11.glBlendFunc(sfactor, dfactor);
 	}
 
@@ -105,12 +130,12 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 
 	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
 		int imageSize, Buffer data) {
-		GL13.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, (ByteBuffer)data);
+		GL13.nglCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, address(data));
 	}
 
 	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
 		int imageSize, Buffer data) {
-		GL13.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, (ByteBuffer)data);
+		GL13.nglCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, address(data));
 	}
 
 	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
@@ -122,22 +147,27 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glCullFace (int mode) {
+		if (stateCache != null && !stateCache.cullFace(mode)) return;
 		GL11.glCullFace(mode);
 	}
 
 	public void glDeleteTextures (int n, IntBuffer textures) {
-		GL11.glDeleteTextures(textures);
+		if (stateCache != null) stateCache.texturesDeleted(n, textures);
+		GL11.nglDeleteTextures(n, address(textures));
 	}
 	
 	public void glDeleteTexture (int texture) {
-		glDeleteTextures(1, toIntBuffer(texture));
+		if (stateCache != null) stateCache.textureDeleted(texture);
+		GL11.glDeleteTextures(texture);
 	}
 
 	public void glDepthFunc (int func) {
+		if (stateCache != null && !stateCache.depthFunc(func)) return;
 		GL11.glDepthFunc(func);
 	}
 
 	public void glDepthMask (boolean flag) {
+		if (stateCache != null && !stateCache.depthMask(flag)) return;
 		GL11.glDepthMask(flag);
 	}
 
@@ -146,6 +176,7 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glDisable (int cap) {
+		if (stateCache != null && !stateCache.enable(cap, false)) return;
 		GL11.glDisable(cap);
 	}
 
@@ -154,20 +185,11 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glDrawElements (int mode, int count, int type, Buffer indices) {
-		if (indices instanceof ShortBuffer && type == com.badlogic.gdx.graphics.GL20.GL_UNSIGNED_SHORT)
-			GL11.glDrawElements(mode, (ShortBuffer)indices);
-		else if (indices instanceof ByteBuffer && type == com.badlogic.gdx.graphics.GL20.GL_UNSIGNED_SHORT)
-			GL11.glDrawElements(mode, ((ByteBuffer)indices).asShortBuffer()); // FIXME yay...
-		else if (indices instanceof ByteBuffer && type == com.badlogic.gdx.graphics.GL20.GL_UNSIGNED_BYTE)
-			GL11.glDrawElements(mode, (ByteBuffer)indices);
-		else if (indices instanceof IntBuffer && type == com.badlogic.gdx.graphics.GL20.GL_INT)
-			GL11.glDrawElements(mode, (IntBuffer)indices);
-		else
-			throw new GdxRuntimeException("Can't use " + indices.getClass().getName()
-					+ " with this method. Use IntBuffer, ShortBuffer or ByteBuffer instead. Blame LWJGL");
+		GL11.nglDrawElements(mode, count, type, address(indices));
 	}
 
 	public void glEnable (int cap) {
+		if (stateCache != null && !stateCache.enable(cap, true)) return;
 		GL11.glEnable(cap);
 	}
 
@@ -224,20 +246,11 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
-		if (pixels instanceof ByteBuffer)
-			GL11.glReadPixels(x, y, width, height, format, type, (ByteBuffer)pixels);
-		else if (pixels instanceof ShortBuffer)
-			GL11.glReadPixels(x, y, width, height, format, type, (ShortBuffer)pixels);
-		else if (pixels instanceof IntBuffer)
-			GL11.glReadPixels(x, y, width, height, format, type, (IntBuffer)pixels);
-		else if (pixels instanceof FloatBuffer)
-			GL11.glReadPixels(x, y, width, height, format, type, (FloatBuffer)pixels);
-		else
-			throw new GdxRuntimeException("Can't use " + pixels.getClass().getName()
-					+ " with this method. Use ByteBuffer, ShortBuffer, IntBuffer or FloatBuffer instead. Blame LWJGL");
+		GL11.nglReadPixels(x, y, width, height, format, type, address(pixels));
 	}
 
 	public void glScissor (int x, int y, int width, int height) {
+		if (dynamicResolution != null && dynamicResolution.scissor(x, y, width, height)) return;
 		GL11.glScissor(x, y, width, height);
 	}
 
@@ -255,21 +268,7 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 
 	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format, int type,
 		Buffer pixels) {
-		if (pixels == null)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (ByteBuffer)null);
-		else if (pixels instanceof ByteBuffer)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (ByteBuffer)pixels);
-		else if (pixels instanceof ShortBuffer)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (ShortBuffer)pixels);
-		else if (pixels instanceof IntBuffer)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (IntBuffer)pixels);
-		else if (pixels instanceof FloatBuffer)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (FloatBuffer)pixels);
-		else if (pixels instanceof DoubleBuffer)
-			GL11.glTexImage2D(target, level, internalFormat, width, height, border, format, type, (DoubleBuffer)pixels);
-		else
-			throw new GdxRuntimeException("Can't use " + pixels.getClass().getName()
-					+ " with this method. Use ByteBuffer, ShortBuffer, IntBuffer, FloatBuffer or DoubleBuffer instead. Blame LWJGL");
+		GL11.nglTexImage2D(target, level, internalFormat, width, height, border, format, type, address(pixels));
 	}
 
 	public void glTexParameterf (int target, int pname, float param) {
@@ -278,22 +277,11 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 
 	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
 		Buffer pixels) {
-		if (pixels instanceof ByteBuffer)
-			GL11.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, (ByteBuffer)pixels);
-		else if (pixels instanceof ShortBuffer)
-			GL11.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, (ShortBuffer)pixels);
-		else if (pixels instanceof IntBuffer)
-			GL11.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, (IntBuffer)pixels);
-		else if (pixels instanceof FloatBuffer)
-			GL11.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, (FloatBuffer)pixels);
-		else if (pixels instanceof DoubleBuffer)
-			GL11.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, (DoubleBuffer)pixels);
-		else
-			throw new GdxRuntimeException("Can't use " + pixels.getClass().getName()
-					+ " with this method. Use ByteBuffer, ShortBuffer, IntBuffer, FloatBuffer or DoubleBuffer instead. Blame LWJGL");
+		GL11.nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, address(pixels));
 	}
 
 	public void glViewport (int x, int y, int width, int height) {
+		if (dynamicResolution != null && dynamicResolution.viewport(x, y, width, height)) return;
 		GL11.glViewport(x, y, width, height);
 	}
 
@@ -310,45 +298,27 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glBindBuffer (int target, int buffer) {
+		if (stateCache != null && !stateCache.bindBuffer(target, buffer)) return;
 		GL15.glBindBuffer(target, buffer);
 	}
 
 	public void glBufferData (int target, int size, Buffer data, int usage) {
-		if (data == null)
-			GL15.glBufferData(target, size, usage);
-		else if (data instanceof ByteBuffer)
-			GL15.glBufferData(target, (ByteBuffer)data, usage);
-		else if (data instanceof IntBuffer)
-			GL15.glBufferData(target, (IntBuffer)data, usage);
-		else if (data instanceof FloatBuffer)
-			GL15.glBufferData(target, (FloatBuffer)data, usage);
-		else if (data instanceof DoubleBuffer)
-			GL15.glBufferData(target, (DoubleBuffer)data, usage);
-		else if (data instanceof ShortBuffer) //
-			GL15.glBufferData(target, (ShortBuffer)data, usage);
+		GL15.nglBufferData(target, size, address(data), usage);
 	}
 
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
-		if (data == null)
-			throw new GdxRuntimeException("Using null for the data not possible, blame LWJGL");
-		else if (data instanceof ByteBuffer)
-			GL15.glBufferSubData(target, offset, (ByteBuffer)data);
-		else if (data instanceof IntBuffer)
-			GL15.glBufferSubData(target, offset, (IntBuffer)data);
-		else if (data instanceof FloatBuffer)
-			GL15.glBufferSubData(target, offset, (FloatBuffer)data);
-		else if (data instanceof DoubleBuffer)
-			GL15.glBufferSubData(target, offset, (DoubleBuffer)data);
-		else if (data instanceof ShortBuffer) //
-			GL15.glBufferSubData(target, offset, (ShortBuffer)data);
+		if (data == null) throw new GdxRuntimeException("data cannot be null.");
+		GL15.nglBufferSubData(target, offset, size, address(data));
 	}
 
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
-		GL15.glDeleteBuffers(buffers);
+		if (stateCache != null) stateCache.buffersDeleted(n, buffers);
+		GL15.nglDeleteBuffers(n, address(buffers));
 	}
 	
 	public void glDeleteBuffer (int buffer) {
-		glDeleteBuffers(1, toIntBuffer(buffer));
+		if (stateCache != null) stateCache.bufferDeleted(buffer);
+		GL15.glDeleteBuffers(buffer);
 	}
 
 	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
@@ -396,14 +366,18 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glAttachShader (int program, int shader) {
+		if (programCache != null) programCache.attachShader(program, shader);
 		GL20.glAttachShader(program, shader);
 	}
 
 	public void glBindAttribLocation (int program, int index, String name) {
+		if (programCache != null) programCache.bindAttribLocation(program, index, name);
 		GL20.glBindAttribLocation(program, index, name);
 	}
 
 	public void glBindFramebuffer (int target, int framebuffer) {
+		if (stateCache != null && !stateCache.bindFramebuffer(target, framebuffer)) return;
+		if (dynamicResolution != null) framebuffer = dynamicResolution.bindFramebuffer(target, framebuffer);
 		EXTFramebufferObject.glBindFramebufferEXT(target, framebuffer);
 	}
 
@@ -424,6 +398,7 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (stateCache != null && !stateCache.blendFunc(srcRGB, dstRGB, srcAlpha, dstAlpha)) return;
 		GL14.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
 	}
 
@@ -432,6 +407,7 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glCompileShader (int shader) {
+		if (programCache != null && programCache.compileShader(shader)) return;
 		GL20.glCompileShader(shader);
 	}
 
@@ -440,18 +416,23 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public int glCreateShader (int type) {
-		return GL20.glCreateShader(type);
+		int shader = GL20.glCreateShader(type);
+		if (programCache != null) programCache.createShader(shader, type);
+		return shader;
 	}
 
 	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
-		EXTFramebufferObject.glDeleteFramebuffersEXT(framebuffers);
+		if (stateCache != null) stateCache.framebuffersDeleted(n, framebuffers);
+		EXTFramebufferObject.nglDeleteFramebuffersEXT(n, address(framebuffers));
 	}
 	
 	public void glDeleteFramebuffer (int framebuffer) {
-		glDeleteFramebuffers(1, toIntBuffer(framebuffer));
+		if (stateCache != null) stateCache.framebufferDeleted(framebuffer);
+		EXTFramebufferObject.glDeleteFramebuffersEXT(framebuffer);
 	}
 
 	public void glDeleteProgram (int program) {
+		if (programCache != null) programCache.deleteProgram(program);
 		GL20.glDeleteProgram(program);
 	}
 
@@ -460,14 +441,16 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glDeleteRenderbuffer (int renderbuffer) {
-		glDeleteRenderbuffers(1, toIntBuffer(renderbuffer));
+		EXTFramebufferObject.glDeleteRenderbuffersEXT(renderbuffer);
 	}
 
 	public void glDeleteShader (int shader) {
+		if (programCache != null) programCache.deleteShader(shader);
 		GL20.glDeleteShader(shader);
 	}
 
 	public void glDetachShader (int program, int shader) {
+		if (programCache != null) programCache.detachShader(program, shader);
 		GL20.glDetachShader(program, shader);
 	}
 
@@ -552,10 +535,15 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		if (programCache != null && programCache.getShaderiv(shader, pname, params)) return;
 		GL20.glGetShaderiv(shader, pname, params);
 	}
 
 	public String glGetShaderInfoLog (int shader) {
+		if (programCache != null) {
+			String log = programCache.getShaderInfoLog(shader);
+			if (log != null) return log;
+		}
 		return GL20.glGetShaderInfoLog(shader);
 	}
 
@@ -608,7 +596,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glLinkProgram (int program) {
-		GL20.glLinkProgram(program);
+		if (programCache != null)
+			programCache.linkProgram(program);
+		else
+			GL20.glLinkProgram(program);
 	}
 
 	public void glReleaseShaderCompiler () {
@@ -628,6 +619,7 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glShaderSource (int shader, String string) {
+		if (programCache != null && programCache.shaderSource(shader, string)) return;
 		GL20.glShaderSource(shader, string);
 	}
 
@@ -652,7 +644,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glUniform1fv (int location, int count, float[] v, int offset) {
-		glUniform1fv(location, count, toFloatBuffer(v, offset, count));
+		if (offset == 0 && v.length == count)
+			GL20.glUniform1fv(location, v);
+		else
+			GL20.nglUniform1fv(location, count, ScratchBuffer.floats(v, offset, count));
 	}
 	
 	public void glUniform1i (int location, int x) {
@@ -664,7 +659,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform1iv (int location, int count, int[] v, int offset) {
-		glUniform1iv(location, count, toIntBuffer(v, offset, count));
+		if (offset == 0 && v.length == count)
+			GL20.glUniform1iv(location, v);
+		else
+			GL20.nglUniform1iv(location, count, ScratchBuffer.ints(v, offset, count));
 	}
 
 	public void glUniform2f (int location, float x, float y) {
@@ -676,7 +674,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform2fv (int location, int count, float[] v, int offset) {
-		glUniform2fv(location, count, toFloatBuffer(v, offset, count << 1));
+		if (offset == 0 && v.length == count << 1)
+			GL20.glUniform2fv(location, v);
+		else
+			GL20.nglUniform2fv(location, count, ScratchBuffer.floats(v, offset, count << 1));
 	}
 
 	public void glUniform2i (int location, int x, int y) {
@@ -688,7 +689,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform2iv (int location, int count, int[] v, int offset) {
-		glUniform2iv(location, count, toIntBuffer(v, offset, count<<1));
+		if (offset == 0 && v.length == count << 1)
+			GL20.glUniform2iv(location, v);
+		else
+			GL20.nglUniform2iv(location, count, ScratchBuffer.ints(v, offset, count << 1));
 	}
 
 	public void glUniform3f (int location, float x, float y, float z) {
@@ -700,7 +704,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform3fv (int location, int count, float[] v, int offset) {
-		glUniform3fv(location, count, toFloatBuffer(v, offset, count*3));
+		if (offset == 0 && v.length == count * 3)
+			GL20.glUniform3fv(location, v);
+		else
+			GL20.nglUniform3fv(location, count, ScratchBuffer.floats(v, offset, count * 3));
 	}
 
 	public void glUniform3i (int location, int x, int y, int z) {
@@ -712,7 +719,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform3iv (int location, int count, int[] v, int offset) {
-		glUniform3iv(location, count, toIntBuffer(v, offset, count*3));
+		if (offset == 0 && v.length == count * 3)
+			GL20.glUniform3iv(location, v);
+		else
+			GL20.nglUniform3iv(location, count, ScratchBuffer.ints(v, offset, count * 3));
 	}
 
 	public void glUniform4f (int location, float x, float y, float z, float w) {
@@ -724,7 +734,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform4fv (int location, int count, float[] v, int offset) {
-		glUniform4fv(location, count, toFloatBuffer(v, offset, count << 2));
+		if (offset == 0 && v.length == count << 2)
+			GL20.glUniform4fv(location, v);
+		else
+			GL20.nglUniform4fv(location, count, ScratchBuffer.floats(v, offset, count << 2));
 	}
 
 	public void glUniform4i (int location, int x, int y, int z, int w) {
@@ -736,7 +749,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniform4iv (int location, int count, int[] v, int offset) {
-		glUniform4iv(location, count, toIntBuffer(v, offset, count << 2));
+		if (offset == 0 && v.length == count << 2)
+			GL20.glUniform4iv(location, v);
+		else
+			GL20.nglUniform4iv(location, count, ScratchBuffer.ints(v, offset, count << 2));
 	}
 
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
@@ -744,7 +760,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
-		glUniformMatrix2fv(location, count, transpose, toFloatBuffer(value, offset, count << 2));
+		if (offset == 0 && value.length == count << 2)
+			GL20.glUniformMatrix2fv(location, transpose, value);
+		else
+			GL20.nglUniformMatrix2fv(location, count, transpose, ScratchBuffer.floats(value, offset, count << 2));
 	}
 
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
@@ -752,7 +771,10 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
-		glUniformMatrix3fv(location, count, transpose, toFloatBuffer(value, offset, count * 9));
+		if (offset == 0 && value.length == count * 9)
+			GL20.glUniformMatrix3fv(location, transpose, value);
+		else
+			GL20.nglUniformMatrix3fv(location, count, transpose, ScratchBuffer.floats(value, offset, count * 9));
 	}
 
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
@@ -760,10 +782,14 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 	
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
-		glUniformMatrix4fv(location, count, transpose, toFloatBuffer(value, offset, count << 4));
+		if (offset == 0 && value.length == count << 4)
+			GL20.glUniformMatrix4fv(location, transpose, value);
+		else
+			GL20.nglUniformMatrix4fv(location, count, transpose, ScratchBuffer.floats(value, offset, count << 4));
 	}
 
 	public void glUseProgram (int program) {
+		if (stateCache != null && !stateCache.useProgram(program)) return;
 		GL20.glUseProgram(program);
 	}
 
@@ -804,32 +830,52 @@ public class JglfwGL20 implements com.badlogic.gdx.graphics.GL20 {
 	}
 
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer buffer) {
-		if (buffer instanceof ByteBuffer) {
-			GL20.glVertexAttribPointer(indx, size, type, normalized, stride, (ByteBuffer)buffer);
-		} else if (buffer instanceof IntBuffer) {
-			if (type == GL_INT)
-				GL20.glVertexAttribPointer(indx, size, type, normalized, stride, (IntBuffer)buffer);
-			else
-				throw new GdxRuntimeException("Can't use " + buffer.getClass().getName() + " with type " + type
-						+ " with this method.");
-		} else if (buffer instanceof ShortBuffer) {
-			if (type == GL_SHORT)
-				GL20.glVertexAttribPointer(indx, size, type, normalized, stride, (ShortBuffer)buffer);
-			else
-				throw new GdxRuntimeException("Can't use " + buffer.getClass().getName() + " with type " + type
-						+ " with this method.");
-		} else if (buffer instanceof FloatBuffer) {
-			if (type == GL_FLOAT)
-				GL20.glVertexAttribPointer(indx, size, type, normalized, stride, (FloatBuffer)buffer);
-			else
-				throw new GdxRuntimeException("Can't use " + buffer.getClass().getName() + " with type " + type
-						+ " with this method.");
-		} else
-			throw new GdxRuntimeException("Can't use " + buffer.getClass().getName()
-					+ " with this method. Use ByteBuffer, ShortBuffer, IntBuffer or FloatBuffer instead. Blame LWJGL");
+		GL20.nglVertexAttribPointer(indx, size, type, normalized, stride, address(buffer));
 	}
 
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
 		GL20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
 	}
+
+	public boolean supportsMultiDraw () {
+		return GL.getCapabilities().OpenGL14;
+	}
+
+	public boolean supportsDrawIndirect () {
+		GLCapabilities caps = GL.getCapabilities();
+		return caps.OpenGL40 || caps.GL_ARB_draw_indirect;
+	}
+
+	public boolean supportsMultiDrawIndirect () {
+		GLCapabilities caps = GL.getCapabilities();
+		return caps.OpenGL43 || caps.GL_ARB_multi_draw_indirect;
+	}
+
+	public void glMultiDrawArrays (int mode, IntBuffer first, IntBuffer count) {
+		int drawCount = count.remaining();
+		if (first.remaining() < drawCount) throw new IllegalArgumentException("first has fewer elements than count.");
+		GL14.nglMultiDrawArrays(mode, address(first), address(count), drawCount);
+	}
+
+	public void glMultiDrawElements (int mode, IntBuffer count, int type, PointerBuffer indices) {
+		int drawCount = count.remaining();
+		if (indices.remaining() < drawCount) throw new IllegalArgumentException("indices has fewer elements than count.");
+		GL14.nglMultiDrawElements(mode, address(count), type, MemoryUtil.memAddress(indices), drawCount);
+	}
+
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		GL40.glDrawArraysIndirect(mode, indirect);
+	}
+
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		GL40.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	public void glMultiDrawArraysIndirect (int mode, long indirect, int drawCount, int stride) {
+		GL43.glMultiDrawArraysIndirect(mode, indirect, drawCount, stride);
+	}
+
+	public void glMultiDrawElementsIndirect (int mode, int type, long indirect, int drawCount, int stride) {
+		GL43.glMultiDrawElementsIndirect(mode, type, indirect, drawCount, stride);
+	}
 }
@@ -16,7 +16,6 @@
 
 package com.badlogic.gdx.backends.jglfw;
 
-import com.badlogic.gdx.utils.GdxRuntimeException;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL12;
 import org.lwjgl.opengl.GL15;
@@ -29,14 +28,14 @@ import org.lwjgl.opengl.GL33;
 import org.lwjgl.opengl.GL40;
 import org.lwjgl.opengl.GL41;
 import org.lwjgl.opengl.GL43;
+import org.lwjgl.system.MemoryUtil;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.IntBuffer;
 import java.nio.LongBuffer;
-import java.nio.ShortBuffer;
 
 /**
  * @author mzechner
@@ -50,10 +49,7 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
-		if(indices instanceof ByteBuffer) GL12.glDrawRangeElements(mode, start, end, (ByteBuffer)indices);
-		else if(indices instanceof ShortBuffer) GL12.glDrawRangeElements(mode, start, end, (ShortBuffer)indices);
-		else if(indices instanceof IntBuffer) GL12.glDrawRangeElements(mode, start, end, (IntBuffer)indices);
-		else throw new GdxRuntimeException("indices must be byte, short or int buffer");
+		GL12.nglDrawRangeElements(mode, start, end, count, type, address(indices));
 	}
 
 	@Override
@@ -64,17 +60,7 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 	@Override
 	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
 	                          int type, Buffer pixels) {
-		if (pixels instanceof ByteBuffer)
-			GL12.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, (ByteBuffer) pixels);
-		else if (pixels instanceof ShortBuffer)
-			GL12.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, (ShortBuffer) pixels);
-		else if (pixels instanceof IntBuffer)
-			GL12.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, (IntBuffer) pixels);
-		else if (pixels instanceof FloatBuffer)
-			GL12.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, (FloatBuffer) pixels);
-		else if (pixels instanceof DoubleBuffer)
-			GL12.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, (DoubleBuffer) pixels);
-		else throw new GdxRuntimeException("pixels must be ByteBuffer, ShortBuffer, IntBuffer, FloatBuffer or DoubleBuffer");
+		GL12.nglTexImage3D(target, level, internalformat, width, height, depth, border, format, type, address(pixels));
 	}
 
 	@Override
@@ -86,17 +72,7 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 	@Override
 	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth,
 	                             int format, int type, Buffer pixels) {
-		if (pixels instanceof ByteBuffer)
-			GL12.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, (ByteBuffer)pixels);
-		else if (pixels instanceof ShortBuffer)
-			GL12.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, (ShortBuffer)pixels);
-		else if (pixels instanceof IntBuffer)
-			GL12.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, (IntBuffer)pixels);
-		else if (pixels instanceof FloatBuffer)
-			GL12.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, (FloatBuffer)pixels);
-		else if (pixels instanceof DoubleBuffer)
-			GL12.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, (DoubleBuffer)pixels);
-		else throw new GdxRuntimeException("pixels must be ByteBuffer, ShortBuffer, IntBuffer, FloatBuffer or DoubleBuffer");
+		GL12.nglTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, address(pixels));
 	}
 
 	@Override
@@ -113,8 +89,11 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glGenQueries (int n, int[] ids, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			ids[i] = GL15.glGenQueries();
+		if (offset == 0 && ids.length == n)
+			GL15.glGenQueries(ids);
+		else {
+			GL15.nglGenQueries(n, ScratchBuffer.ints(n));
+			ScratchBuffer.get(ids, offset, n);
 		}
 	}
 
@@ -125,9 +104,10 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glDeleteQueries (int n, int[] ids, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			GL15.glDeleteQueries(ids[i]);
-		}
+		if (offset == 0 && ids.length == n)
+			GL15.glDeleteQueries(ids);
+		else
+			GL15.nglDeleteQueries(n, ScratchBuffer.ints(ids, offset, n));
 	}
 
 	@Override
@@ -167,7 +147,17 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public Buffer glGetBufferPointerv (int target, int pname) {
-		throw new UnsupportedOperationException("Not implemented");
+		long address = GL15.glGetBufferPointer(target, pname);
+		if (address == 0) return null;
+		int length = GL15.glGetBufferParameteri(target, GL30.GL_BUFFER_MAP_LENGTH);
+		return MemoryUtil.memByteBuffer(address, length).order(ByteOrder.nativeOrder());
+	}
+
+	/** Maps a range of the buffer bound to the target. Not part of the libgdx GL30 interface.
+	 * @return the mapped memory in native byte order, or null if the range could not be mapped. */
+	public ByteBuffer glMapBufferRange (int target, int offset, int length, int access) {
+		ByteBuffer buffer = GL30.glMapBufferRange(target, offset, length, access);
+		return buffer == null ? null : buffer.order(ByteOrder.nativeOrder());
 	}
 
 	@Override
@@ -213,6 +203,8 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glBindFramebuffer (int target, int framebuffer) {
+		if (stateCache != null && !stateCache.bindFramebuffer(target, framebuffer)) return;
+		if (dynamicResolution != null) framebuffer = dynamicResolution.bindFramebuffer(target, framebuffer);
 		GL30.glBindFramebuffer(target, framebuffer);
 	}
 
@@ -228,11 +220,13 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
-		GL30.glDeleteFramebuffers(framebuffers);
+		if (stateCache != null) stateCache.framebuffersDeleted(n, framebuffers);
+		GL30.nglDeleteFramebuffers(n, address(framebuffers));
 	}
 
 	@Override
 	public void glDeleteFramebuffer (int framebuffer) {
+		if (stateCache != null) stateCache.framebufferDeleted(framebuffer);
 		GL30.glDeleteFramebuffers(framebuffer);
 	}
 
@@ -318,25 +312,32 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glBindVertexArray (int array) {
+		if (stateCache != null && !stateCache.bindVertexArray(array)) return;
 		GL30.glBindVertexArray(array);
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			GL30.glDeleteVertexArrays(arrays[i]);
-		}
+		if (stateCache != null) stateCache.vertexArraysDeleted(n, arrays, offset);
+		if (offset == 0 && arrays.length == n)
+			GL30.glDeleteVertexArrays(arrays);
+		else
+			GL30.nglDeleteVertexArrays(n, ScratchBuffer.ints(arrays, offset, n));
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
-		GL30.glDeleteVertexArrays(arrays);
+		if (stateCache != null) stateCache.vertexArraysDeleted(n, arrays);
+		GL30.nglDeleteVertexArrays(n, address(arrays));
 	}
 
 	@Override
 	public void glGenVertexArrays (int n, int[] arrays, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			arrays[i] = GL30.glGenVertexArrays();
+		if (offset == 0 && arrays.length == n)
+			GL30.glGenVertexArrays(arrays);
+		else {
+			GL30.nglGenVertexArrays(n, ScratchBuffer.ints(n));
+			ScratchBuffer.get(arrays, offset, n);
 		}
 	}
 
@@ -513,8 +514,11 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glGenSamplers (int count, int[] samplers, int offset) {
-		for(int i = offset; i < offset + count; i++) {
-			samplers[i] = GL33.glGenSamplers();
+		if (offset == 0 && samplers.length == count)
+			GL33.glGenSamplers(samplers);
+		else {
+			GL33.nglGenSamplers(count, ScratchBuffer.ints(count));
+			ScratchBuffer.get(samplers, offset, count);
 		}
 	}
 
@@ -525,9 +529,10 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glDeleteSamplers (int count, int[] samplers, int offset) {
-		for(int i = offset; i < offset + count; i++) {
-			GL33.glDeleteSamplers(samplers[i]);
-		}
+		if (offset == 0 && samplers.length == count)
+			GL33.glDeleteSamplers(samplers);
+		else
+			GL33.nglDeleteSamplers(count, ScratchBuffer.ints(samplers, offset, count));
 	}
 
 	@Override
@@ -588,9 +593,10 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			GL40.glDeleteTransformFeedbacks(ids[i]);
-		}
+		if (offset == 0 && ids.length == n)
+			GL40.glDeleteTransformFeedbacks(ids);
+		else
+			GL40.nglDeleteTransformFeedbacks(n, ScratchBuffer.ints(ids, offset, n));
 	}
 
 	@Override
@@ -600,8 +606,11 @@ public class JglfwGL30 extends JglfwGL20 implements com.badlogic.gdx.graphics.GL
 
 	@Override
 	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
-		for(int i = offset; i < offset + n; i++) {
-			ids[i] = GL40.glGenTransformFeedbacks();
+		if (offset == 0 && ids.length == n)
+			GL40.glGenTransformFeedbacks(ids);
+		else {
+			GL40.nglGenTransformFeedbacks(n, ScratchBuffer.ints(n));
+			ScratchBuffer.get(ids, offset, n);
 		}
 	}
 
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Gdx;
+import org.lwjgl.opengl.ARBDebugOutput;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL43;
+import org.lwjgl.opengl.GLCapabilities;
+import org.lwjgl.opengl.GLDebugMessageARBCallback;
+import org.lwjgl.opengl.GLDebugMessageCallback;
+import org.lwjgl.opengl.KHRDebug;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.lwjgl.opengl.GL43.*;
+
+/** Reports errors, undefined behavior, deprecated usage and performance warnings from the driver through KHR_debug or
+ * ARB_debug_output, instead of polling glGetError after each call. Enabled with {@link JglfwApplicationConfiguration#glDebug},
+ * which also requests a debug context.
+ * <p>
+ * The driver may report messages on its own threads, so messages go into a bounded lock-free queue and are handed to the
+ * {@link Listener} on the thread that renders, at the start of each frame. When the queue is full, messages are dropped and
+ * counted. Unwanted messages are disabled in the driver with {@link #setMinSeverity(int)} and {@link #setTypeEnabled(int, boolean)},
+ * so they cost nothing. The default listener logs messages with {@link com.badlogic.gdx.Application#error(String, String)} for
+ * high severity and {@link com.badlogic.gdx.Application#log(String, String)} otherwise. */
+public class JglfwGLDebug {
+	static private final int[] severities = {GL_DEBUG_SEVERITY_HIGH, GL_DEBUG_SEVERITY_MEDIUM, GL_DEBUG_SEVERITY_LOW,
+		GL_DEBUG_SEVERITY_NOTIFICATION};
+
+	private final AtomicReferenceArray<Message> queue;
+	private final int mask;
+	private final AtomicLong writeIndex = new AtomicLong();
+	private volatile long readIndex;
+	private final AtomicInteger dropped = new AtomicInteger();
+	private int performanceWarnings;
+
+	private GLDebugMessageCallback callback;
+	private GLDebugMessageARBCallback callbackARB;
+	private boolean khr, arb, synchronous;
+	private int minSeverity = GL_DEBUG_SEVERITY_LOW;
+	private Listener listener = new Listener() {
+		public void message (Message message) {
+			if (message.severity == GL_DEBUG_SEVERITY_HIGH)
+				Gdx.app.error("GL", message.toString());
+			else
+				Gdx.app.log("GL", message.toString());
+		}
+	};
+
+	/** @param capacity Maximum number of messages waiting to be handed to the listener, rounded up to a power of two. */
+	JglfwGLDebug (int capacity) {
+		int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+		queue = new AtomicReferenceArray(size);
+		mask = size - 1;
+		install();
+	}
+
+	/** Installs the callback in the current context. Called when the context is created. */
+	void install () {
+		GLCapabilities caps = GL.getCapabilities();
+		khr = caps.OpenGL43 || caps.GL_KHR_debug;
+		arb = !khr && caps.GL_ARB_debug_output;
+		if (khr) {
+			if (callback == null) {
+				callback = new GLDebugMessageCallback() {
+					public void invoke (int source, int type, int id, int severity, int length, long message, long userParam) {
+						add(source, type, id, severity, length, message);
+					}
+				};
+			}
+			if (caps.OpenGL43)
+				GL43.glDebugMessageCallback(callback, 0);
+			else
+				KHRDebug.glDebugMessageCallback(callback, 0);
+			GL11.glEnable(GL_DEBUG_OUTPUT); // Off by default outside a debug context.
+		} else if (arb) {
+			if (callbackARB == null) {
+				callbackARB = new GLDebugMessageARBCallback() {
+					public void invoke (int source, int type, int id, int severity, int length, long message, long userParam) {
+						add(source, type, id, severity, length, message);
+					}
+				};
+			}
+			ARBDebugOutput.glDebugMessageCallbackARB(callbackARB, 0);
+		}
+		setSynchronous(synchronous);
+		setMinSeverity(minSeverity);
+	}
+
+	/** Called by the driver, possibly on another thread. */
+	void add (int source, int type, int id, int severity, int length, long text) {
+		long index;
+		do {
+			index = writeIndex.get();
+			if (index - readIndex >= queue.length()) {
+				dropped.incrementAndGet();
+				return;
+			}
+		} while (!writeIndex.compareAndSet(index, index + 1));
+
+		Message message = new Message();
+		message.source = source;
+		message.type = type;
+		message.id = id;
+		message.severity = severity;
+		ByteBuffer bytes = MemoryUtil.memByteBuffer(text, length);
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++)
+			chars[i] = (char)(bytes.get(i) & 0xff); // KHR_debug messages are ASCII.
+		message.text = new String(chars);
+		queue.set((int)index & mask, message);
+	}
+
+	/** Hands the queued messages to the listener. Called on the thread that renders, before the listener renders. */
+	void update () {
+		long index = readIndex;
+		while (true) {
+			int slot = (int)index & mask;
+			Message message = queue.get(slot);
+			if (message == null) break; // Empty, or claimed but not yet written.
+			queue.set(slot, null);
+			readIndex = ++index;
+			if (message.type == GL_DEBUG_TYPE_PERFORMANCE) performanceWarnings++;
+			if (listener != null) listener.message(message);
+		}
+	}
+
+	/** Removes the callback from the current context. Called on the thread that renders. */
+	void dispose () {
+		if (khr) {
+			if (GL.getCapabilities().OpenGL43)
+				GL43.glDebugMessageCallback(null, 0);
+			else
+				KHRDebug.glDebugMessageCallback(null, 0);
+		} else if (arb) ARBDebugOutput.glDebugMessageCallbackARB(null, 0);
+		if (callback != null) callback.release();
+		if (callbackARB != null) callbackARB.release();
+		callback = null;
+		callbackARB = null;
+		khr = arb = false;
+	}
+
+	/** Sets the least severe messages reported, one of GL_DEBUG_SEVERITY_HIGH, MEDIUM, LOW or NOTIFICATION. Default is LOW. This
+	 * enables every type at the reported severities, so call it before {@link #setTypeEnabled(int, boolean)}. Must be called on
+	 * the thread that renders. */
+	public void setMinSeverity (int severity) {
+		int min = severityIndex(severity);
+		minSeverity = severity;
+		for (int i = 0; i < severities.length; i++)
+			control(GL11.GL_DONT_CARE, severities[i], i <= min);
+	}
+
+	public int getMinSeverity () {
+		return minSeverity;
+	}
+
+	/** Enables or disables messages of a type, eg GL_DEBUG_TYPE_PERFORMANCE or GL_DEBUG_TYPE_OTHER, for all severities at or above
+	 * the minimum. Must be called on the thread that renders. */
+	public void setTypeEnabled (int type, boolean enabled) {
+		for (int i = 0, min = severityIndex(minSeverity); i <= min; i++)
+			control(type, severities[i], enabled);
+	}
+
+	static private int severityIndex (int severity) {
+		for (int i = 0; i < severities.length; i++)
+			if (severities[i] == severity) return i;
+		throw new IllegalArgumentException("Invalid severity: " + severity);
+	}
+
+	private void control (int type, int severity, boolean enabled) {
+		if (khr) {
+			if (GL.getCapabilities().OpenGL43)
+				GL43.glDebugMessageControl(GL11.GL_DONT_CARE, type, severity, null, enabled);
+			else
+				KHRDebug.glDebugMessageControl(GL11.GL_DONT_CARE, type, severity, null, enabled);
+		} else if (arb && severity != GL_DEBUG_SEVERITY_NOTIFICATION) // ARB_debug_output has no notifications.
+			ARBDebugOutput.glDebugMessageControlARB(GL11.GL_DONT_CARE, type, severity, null, enabled);
+	}
+
+	/** When true, the driver reports messages during the GL call that caused them, on the thread that renders, which is slower
+	 * but puts a breakpoint in {@link Listener#message(Message)} close to the cause. Messages are still handed to the listener at
+	 * the start of the next frame. Default is false. Must be called on the thread that renders. */
+	public void setSynchronous (boolean synchronous) {
+		this.synchronous = synchronous;
+		if (!khr && !arb) return;
+		if (synchronous)
+			GL11.glEnable(GL_DEBUG_OUTPUT_SYNCHRONOUS);
+		else
+			GL11.glDisable(GL_DEBUG_OUTPUT_SYNCHRONOUS);
+	}
+
+	public boolean isSynchronous () {
+		return synchronous;
+	}
+
+	/** @param listener May be null to discard messages. */
+	public void setListener (Listener listener) {
+		this.listener = listener;
+	}
+
+	/** Returns the number of messages dropped because the queue was full. */
+	public int getDroppedMessages () {
+		return dropped.get();
+	}
+
+	/** Returns the number of GL_DEBUG_TYPE_PERFORMANCE messages handed to the listener, eg buffers moved between memory types or
+	 * shaders recompiled because of state changes. */
+	public int getPerformanceWarnings () {
+		return performanceWarnings;
+	}
+
+	/** Returns false if the context has neither KHR_debug nor ARB_debug_output. */
+	public boolean isSupported () {
+		return khr || arb;
+	}
+
+	/** Receives debug messages on the thread that renders. */
+	static public interface Listener {
+		public void message (Message message);
+	}
+
+	/** A message from the driver. The GL_DEBUG_* values of KHR_debug and ARB_debug_output are the same. */
+	static public class Message {
+		int source, type, id, severity;
+		String text;
+
+		/** Returns GL_DEBUG_SOURCE_API, SHADER_COMPILER, WINDOW_SYSTEM, THIRD_PARTY, APPLICATION or OTHER. */
+		public int getSource () {
+			return source;
+		}
+
+		/** Returns GL_DEBUG_TYPE_ERROR, DEPRECATED_BEHAVIOR, UNDEFINED_BEHAVIOR, PORTABILITY, PERFORMANCE, MARKER or OTHER. */
+		public int getType () {
+			return type;
+		}
+
+		/** Returns the driver specific message id, to recognize messages without parsing the text. */
+		public int getId () {
+			return id;
+		}
+
+		/** Returns GL_DEBUG_SEVERITY_HIGH, MEDIUM, LOW or NOTIFICATION. */
+		public int getSeverity () {
+			return severity;
+		}
+
+		public String getText () {
+			return text;
+		}
+
+		public boolean isError () {
+			return type == GL_DEBUG_TYPE_ERROR;
+		}
+
+		public boolean isPerformanceWarning () {
+			return type == GL_DEBUG_TYPE_PERFORMANCE;
+		}
+
+		public String toString () {
+			return typeName(type) + " " + severityName(severity) + " " + id + ": " + text;
+		}
+
+		static private String typeName (int type) {
+			switch (type) {
+			case GL_DEBUG_TYPE_ERROR:
+				return "error";
+			case GL_DEBUG_TYPE_DEPRECATED_BEHAVIOR:
+				return "deprecated";
+			case GL_DEBUG_TYPE_UNDEFINED_BEHAVIOR:
+				return "undefined";
+			case GL_DEBUG_TYPE_PORTABILITY:
+				return "portability";
+			case GL_DEBUG_TYPE_PERFORMANCE:
+				return "performance";
+			case GL_DEBUG_TYPE_MARKER:
+				return "marker";
+			default:
+				return "other";
+			}
+		}
+
+		static private String severityName (int severity) {
+			switch (severity) {
+			case GL_DEBUG_SEVERITY_HIGH:
+				return "high";
+			case GL_DEBUG_SEVERITY_MEDIUM:
+				return "medium";
+			case GL_DEBUG_SEVERITY_LOW:
+				return "low";
+			default:
+				return "notification";
+			}
+		}
+	}
+}
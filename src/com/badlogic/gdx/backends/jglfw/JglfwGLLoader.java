@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/** Creates GL resources on a background thread, so the main loop keeps rendering during long loads. The loader owns an invisible
+ * window whose context shares objects with the application's, current on a worker thread. {@link Task#load(GL20)} runs there, in
+ * the order tasks were queued. Afterward a fence is inserted and once the GPU has passed it, {@link Task#loaded()} is called on the
+ * GL thread of the application, where the created textures, buffers and shaders can be used.
+ * <p>
+ * Tasks must make GL calls only through the GL they are given, which has none of the application's GL hooks. Code that goes
+ * through {@link com.badlogic.gdx.Gdx#gl}, eg the Texture and ShaderProgram constructors, must not run in a task: that GL is
+ * used by the GL thread at the same time and may count calls, cache state and program binaries, or redirect framebuffer 0 and
+ * scale viewports for the application's context. Objects that hold state rather than data, like vertex arrays and framebuffers,
+ * are not shared between contexts and must be created on the GL thread. */
+public class JglfwGLLoader implements Disposable {
+	private final JglfwGraphics graphics;
+	private long window;
+	private final Thread thread;
+	private final LinkedBlockingQueue<Task> tasks = new LinkedBlockingQueue<Task>();
+	private final ConcurrentLinkedQueue<Loaded> completed = new ConcurrentLinkedQueue<Loaded>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final Task stopTask = new Task() {
+		public void load (GL20 gl) {
+		}
+
+		public void loaded () {
+		}
+	};
+
+	/** Must be called on the thread that created the application's window. */
+	JglfwGLLoader (JglfwGraphics graphics) {
+		this.graphics = graphics;
+		glfwDefaultWindowHints();
+		glfwWindowHint(GLFW_VISIBLE, 0);
+		window = glfwCreateWindow(1, 1, "Loader", 0, graphics.window);
+		if (window == 0) throw new GdxRuntimeException("Unable to create loader context.");
+
+		final GL20 gl = graphics.isGL30Available() ? new JglfwGL30() : new JglfwGL20();
+		thread = new Thread("GLLoader") {
+			public void run () {
+				load(gl);
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/** Queues a task. May be called from any thread. */
+	public void load (Task task) {
+		if (task == null) throw new IllegalArgumentException("task cannot be null.");
+		pending.incrementAndGet();
+		tasks.add(task);
+	}
+
+	/** Returns the number of tasks queued or running, or loaded but not yet notified. */
+	public int getPending () {
+		return pending.get();
+	}
+
+	/** Runs on the loader thread. */
+	void load (GL20 gl) {
+		glfwMakeContextCurrent(window);
+		GLCapabilities caps = GL.createCapabilities();
+		boolean fences = caps.OpenGL32 || caps.GL_ARB_sync;
+		while (true) {
+			Task task;
+			try {
+				task = tasks.take();
+			} catch (InterruptedException ex) {
+				break;
+			}
+			if (task == stopTask) break;
+			Loaded loaded = new Loaded();
+			loaded.task = task;
+			try {
+				task.load(gl);
+			} catch (Throwable ex) {
+				loaded.exception = ex;
+			}
+			if (fences) {
+				loaded.fence = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+				// The fence must reach the GPU, else the GL thread could wait on it forever.
+				GL11.glFlush();
+			} else
+				GL11.glFinish();
+			completed.add(loaded);
+			graphics.requestRendering();
+		}
+		// Delete fences that were never waited on, they're shared with the application's context.
+		Loaded loaded;
+		while ((loaded = completed.poll()) != null)
+			if (loaded.fence != 0) GL32.glDeleteSync(loaded.fence);
+		glfwMakeContextCurrent(0);
+	}
+
+	/** Notifies the tasks whose GL commands have completed. Called on the application's GL thread before rendering. */
+	void update () {
+		Loaded loaded;
+		while ((loaded = completed.peek()) != null) {
+			if (loaded.fence != 0) {
+				if (GL32.glClientWaitSync(loaded.fence, 0, 0) == GL32.GL_TIMEOUT_EXPIRED) break;
+				GL32.glDeleteSync(loaded.fence);
+				loaded.fence = 0;
+			}
+			completed.poll();
+			pending.decrementAndGet();
+			if (loaded.exception != null) throw new GdxRuntimeException("Error loading in the background.", loaded.exception);
+			loaded.task.loaded();
+		}
+	}
+
+	/** Stops the loader thread after the queued tasks have run and destroys its context. Called on the thread that created the
+	 * application's window. */
+	public void dispose () {
+		if (window == 0) return;
+		tasks.add(stopTask);
+		try {
+			thread.join();
+		} catch (InterruptedException ignored) {
+		}
+		glfwDestroyWindow(window);
+		window = 0;
+	}
+
+	/** GL work run on the loader thread. */
+	static public interface Task {
+		/** Called on the loader thread to create GL resources, only through the given GL. */
+		public void load (GL20 gl);
+
+		/** Called on the application's GL thread once the GL commands issued by {@link #load(GL20)} have completed. */
+		public void loaded ();
+	}
+
+	static private class Loaded {
+		Task task;
+		long fence;
+		Throwable exception;
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import org.lwjgl.PointerBuffer;
+
+import java.nio.IntBuffer;
+
+/** Draw calls that submit many draws at once, implemented by the GL of a {@link JglfwGraphics}:
+ * <code>((JglfwGLMultiDraw)Gdx.gl).glMultiDrawElementsIndirect(...)</code>. Buffers must be direct and are read from their
+ * position.
+ * <p>
+ * The indirect draws read their commands from the buffer bound to {@link #GL_DRAW_INDIRECT_BUFFER}, eg uploaded from a direct
+ * buffer with glBufferData or written to a {@link JglfwStreamingBuffer}. Arrays commands are 4 ints: count, instance count,
+ * first and base instance. Elements commands are 5 ints: count, instance count, first index, base vertex and base instance. Base
+ * instance must be 0 before OpenGL 4.2.
+ * <p>
+ * The indirect draws take a byte offset into that buffer rather than a buffer of commands in client memory. Core profiles only
+ * read commands from a buffer object, and copying them into an internal one on every call would cost an upload per draw, which
+ * is what batching the draws is meant to avoid. To write commands from the CPU every frame, use a
+ * <code>JglfwStreamingBuffer</code> for {@link #GL_DRAW_INDIRECT_BUFFER}: write the commands between
+ * {@link JglfwStreamingBuffer#begin()} and {@link JglfwStreamingBuffer#end()}, {@link JglfwStreamingBuffer#bind()} it and pass
+ * the offset <code>end</code> returned. */
+public interface JglfwGLMultiDraw {
+	public static final int GL_DRAW_INDIRECT_BUFFER = 0x8F3F;
+
+	/** Returns true if {@link #glMultiDrawArrays(int, IntBuffer, IntBuffer)} and
+	 * {@link #glMultiDrawElements(int, IntBuffer, int, PointerBuffer)} are available, OpenGL 1.4. */
+	public boolean supportsMultiDraw ();
+
+	/** Returns true if {@link #glDrawArraysIndirect(int, long)} and {@link #glDrawElementsIndirect(int, int, long)} are
+	 * available, OpenGL 4.0 or ARB_draw_indirect. */
+	public boolean supportsDrawIndirect ();
+
+	/** Returns true if {@link #glMultiDrawArraysIndirect(int, long, int, int)} and
+	 * {@link #glMultiDrawElementsIndirect(int, int, long, int, int)} are available, OpenGL 4.3 or ARB_multi_draw_indirect. */
+	public boolean supportsMultiDrawIndirect ();
+
+	/** Draws one range of vertices per remaining element of count. */
+	public void glMultiDrawArrays (int mode, IntBuffer first, IntBuffer count);
+
+	/** Draws one range of indices per remaining element of count.
+	 * @param indices Byte offsets into the bound element array buffer. */
+	public void glMultiDrawElements (int mode, IntBuffer count, int type, PointerBuffer indices);
+
+	/** @param indirect Byte offset of the command in the draw indirect buffer. */
+	public void glDrawArraysIndirect (int mode, long indirect);
+
+	/** @param indirect Byte offset of the command in the draw indirect buffer. */
+	public void glDrawElementsIndirect (int mode, int type, long indirect);
+
+	/** @param indirect Byte offset of the first command in the draw indirect buffer.
+	 * @param stride Bytes between commands, or 0 if they are tightly packed. */
+	public void glMultiDrawArraysIndirect (int mode, long indirect, int drawCount, int stride);
+
+	/** @param indirect Byte offset of the first command in the draw indirect buffer.
+	 * @param stride Bytes between commands, or 0 if they are tightly packed. */
+	public void glMultiDrawElementsIndirect (int mode, int type, long indirect, int drawCount, int stride);
+}
@@ -0,0 +1,1758 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import org.lwjgl.PointerBuffer;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/** Wraps the GL of a {@link JglfwGraphics} and counts, per frame, the calls to each GL method, draw calls, vertices submitted,
+ * texture bindings, shader switches and buffer bytes uploaded. Enabled with {@link JglfwApplicationConfiguration#glProfiler}; the
+ * counts of the last complete frame are available from {@link JglfwGraphics#getGLProfiler()}. Counting never allocates. */
+public class JglfwGLProfiler implements GL30, JglfwGLMultiDraw {
+	static private final String[] methodNames = {
+		"glActiveTexture", "glAttachShader", "glBeginQuery", "glBeginTransformFeedback", "glBindAttribLocation", "glBindBuffer",
+		"glBindBufferBase", "glBindBufferRange", "glBindFramebuffer", "glBindRenderbuffer", "glBindSampler", "glBindTexture",
+		"glBindTransformFeedback", "glBindVertexArray", "glBlendColor", "glBlendEquation", "glBlendEquationSeparate",
+		"glBlendFunc", "glBlendFuncSeparate", "glBlitFramebuffer", "glBufferData", "glBufferSubData", "glCheckFramebufferStatus",
+		"glClear", "glClearBufferfi", "glClearBufferfv", "glClearBufferiv", "glClearBufferuiv", "glClearColor", "glClearDepthf",
+		"glClearStencil", "glColorMask", "glCompileShader", "glCompressedTexImage2D", "glCompressedTexSubImage2D",
+		"glCopyBufferSubData", "glCopyTexImage2D", "glCopyTexSubImage2D", "glCopyTexSubImage3D", "glCreateProgram",
+		"glCreateShader", "glCullFace", "glDeleteBuffer", "glDeleteBuffers", "glDeleteFramebuffer", "glDeleteFramebuffers",
+		"glDeleteProgram", "glDeleteQueries", "glDeleteRenderbuffer", "glDeleteRenderbuffers", "glDeleteSamplers",
+		"glDeleteShader", "glDeleteTexture", "glDeleteTextures", "glDeleteTransformFeedbacks", "glDeleteVertexArrays",
+		"glDepthFunc", "glDepthMask", "glDepthRangef", "glDetachShader", "glDisable", "glDisableVertexAttribArray",
+		"glDrawArrays", "glDrawArraysInstanced", "glDrawBuffers", "glDrawElements", "glDrawElementsInstanced",
+		"glDrawRangeElements", "glEnable", "glEnableVertexAttribArray", "glEndQuery", "glEndTransformFeedback", "glFinish",
+		"glFlush", "glFlushMappedBufferRange", "glFramebufferRenderbuffer", "glFramebufferTexture2D",
+		"glFramebufferTextureLayer", "glFrontFace", "glGenBuffer", "glGenBuffers", "glGenFramebuffer", "glGenFramebuffers",
+		"glGenQueries", "glGenRenderbuffer", "glGenRenderbuffers", "glGenSamplers", "glGenTexture", "glGenTextures",
+		"glGenTransformFeedbacks", "glGenVertexArrays", "glGenerateMipmap", "glGetActiveAttrib", "glGetActiveUniform",
+		"glGetActiveUniformBlockName", "glGetActiveUniformBlockiv", "glGetActiveUniformsiv", "glGetAttachedShaders",
+		"glGetAttribLocation", "glGetBooleanv", "glGetBufferParameteri64v", "glGetBufferParameteriv", "glGetBufferPointerv",
+		"glGetError", "glGetFloatv", "glGetFragDataLocation", "glGetFramebufferAttachmentParameteriv", "glGetInteger64v",
+		"glGetIntegerv", "glGetProgramInfoLog", "glGetProgramiv", "glGetQueryObjectuiv", "glGetQueryiv",
+		"glGetRenderbufferParameteriv", "glGetSamplerParameterfv", "glGetSamplerParameteriv", "glGetShaderInfoLog",
+		"glGetShaderPrecisionFormat", "glGetShaderSource", "glGetShaderiv", "glGetString", "glGetStringi", "glGetTexParameterfv",
+		"glGetTexParameteriv", "glGetUniformBlockIndex", "glGetUniformIndices", "glGetUniformLocation", "glGetUniformfv",
+		"glGetUniformiv", "glGetUniformuiv", "glGetVertexAttribIiv", "glGetVertexAttribIuiv", "glGetVertexAttribPointerv",
+		"glGetVertexAttribfv", "glGetVertexAttribiv", "glHint", "glInvalidateFramebuffer", "glInvalidateSubFramebuffer",
+		"glIsBuffer", "glIsEnabled", "glIsFramebuffer", "glIsProgram", "glIsQuery", "glIsRenderbuffer", "glIsSampler",
+		"glIsShader", "glIsTexture", "glIsTransformFeedback", "glIsVertexArray", "glLineWidth", "glLinkProgram",
+		"glPauseTransformFeedback", "glPixelStorei", "glPolygonOffset", "glProgramParameteri", "glReadBuffer", "glReadPixels",
+		"glReleaseShaderCompiler", "glRenderbufferStorage", "glRenderbufferStorageMultisample", "glResumeTransformFeedback",
+		"glSampleCoverage", "glSamplerParameterf", "glSamplerParameterfv", "glSamplerParameteri", "glSamplerParameteriv",
+		"glScissor", "glShaderBinary", "glShaderSource", "glStencilFunc", "glStencilFuncSeparate", "glStencilMask",
+		"glStencilMaskSeparate", "glStencilOp", "glStencilOpSeparate", "glTexImage2D", "glTexImage3D", "glTexParameterf",
+		"glTexParameterfv", "glTexParameteri", "glTexParameteriv", "glTexSubImage2D", "glTexSubImage3D",
+		"glTransformFeedbackVaryings", "glUniform1f", "glUniform1fv", "glUniform1i", "glUniform1iv", "glUniform1uiv",
+		"glUniform2f", "glUniform2fv", "glUniform2i", "glUniform2iv", "glUniform3f", "glUniform3fv", "glUniform3i",
+		"glUniform3iv", "glUniform3uiv", "glUniform4f", "glUniform4fv", "glUniform4i", "glUniform4iv", "glUniform4uiv",
+		"glUniformBlockBinding", "glUniformMatrix2fv", "glUniformMatrix2x3fv", "glUniformMatrix2x4fv", "glUniformMatrix3fv",
+		"glUniformMatrix3x2fv", "glUniformMatrix3x4fv", "glUniformMatrix4fv", "glUniformMatrix4x2fv", "glUniformMatrix4x3fv",
+		"glUnmapBuffer", "glUseProgram", "glValidateProgram", "glVertexAttrib1f", "glVertexAttrib1fv", "glVertexAttrib2f",
+		"glVertexAttrib2fv", "glVertexAttrib3f", "glVertexAttrib3fv", "glVertexAttrib4f", "glVertexAttrib4fv",
+		"glVertexAttribDivisor", "glVertexAttribI4i", "glVertexAttribI4ui", "glVertexAttribIPointer", "glVertexAttribPointer",
+		"glViewport",
+		// JglfwGLMultiDraw
+		"glDrawArraysIndirect", "glDrawElementsIndirect", "glMultiDrawArrays", "glMultiDrawArraysIndirect",
+		"glMultiDrawElements", "glMultiDrawElementsIndirect"};
+
+	// Indices into methodNames, looked up so the order of the names doesn't matter.
+	static private final int ACTIVE_TEXTURE = index("glActiveTexture");
+	static private final int ATTACH_SHADER = index("glAttachShader");
+	static private final int BEGIN_QUERY = index("glBeginQuery");
+	static private final int BEGIN_TRANSFORM_FEEDBACK = index("glBeginTransformFeedback");
+	static private final int BIND_ATTRIB_LOCATION = index("glBindAttribLocation");
+	static private final int BIND_BUFFER = index("glBindBuffer");
+	static private final int BIND_BUFFER_BASE = index("glBindBufferBase");
+	static private final int BIND_BUFFER_RANGE = index("glBindBufferRange");
+	static private final int BIND_FRAMEBUFFER = index("glBindFramebuffer");
+	static private final int BIND_RENDERBUFFER = index("glBindRenderbuffer");
+	static private final int BIND_SAMPLER = index("glBindSampler");
+	static private final int BIND_TEXTURE = index("glBindTexture");
+	static private final int BIND_TRANSFORM_FEEDBACK = index("glBindTransformFeedback");
+	static private final int BIND_VERTEX_ARRAY = index("glBindVertexArray");
+	static private final int BLEND_COLOR = index("glBlendColor");
+	static private final int BLEND_EQUATION = index("glBlendEquation");
+	static private final int BLEND_EQUATION_SEPARATE = index("glBlendEquationSeparate");
+	static private final int BLEND_FUNC = index("glBlendFunc");
+	static private final int BLEND_FUNC_SEPARATE = index("glBlendFuncSeparate");
+	static private final int BLIT_FRAMEBUFFER = index("glBlitFramebuffer");
+	static private final int BUFFER_DATA = index("glBufferData");
+	static private final int BUFFER_SUB_DATA = index("glBufferSubData");
+	static private final int CHECK_FRAMEBUFFER_STATUS = index("glCheckFramebufferStatus");
+	static private final int CLEAR = index("glClear");
+	static private final int CLEAR_BUFFERFI = index("glClearBufferfi");
+	static private final int CLEAR_BUFFERFV = index("glClearBufferfv");
+	static private final int CLEAR_BUFFERIV = index("glClearBufferiv");
+	static private final int CLEAR_BUFFERUIV = index("glClearBufferuiv");
+	static private final int CLEAR_COLOR = index("glClearColor");
+	static private final int CLEAR_DEPTHF = index("glClearDepthf");
+	static private final int CLEAR_STENCIL = index("glClearStencil");
+	static private final int COLOR_MASK = index("glColorMask");
+	static private final int COMPILE_SHADER = index("glCompileShader");
+	static private final int COMPRESSED_TEX_IMAGE2_D = index("glCompressedTexImage2D");
+	static private final int COMPRESSED_TEX_SUB_IMAGE2_D = index("glCompressedTexSubImage2D");
+	static private final int COPY_BUFFER_SUB_DATA = index("glCopyBufferSubData");
+	static private final int COPY_TEX_IMAGE2_D = index("glCopyTexImage2D");
+	static private final int COPY_TEX_SUB_IMAGE2_D = index("glCopyTexSubImage2D");
+	static private final int COPY_TEX_SUB_IMAGE3_D = index("glCopyTexSubImage3D");
+	static private final int CREATE_PROGRAM = index("glCreateProgram");
+	static private final int CREATE_SHADER = index("glCreateShader");
+	static private final int CULL_FACE = index("glCullFace");
+	static private final int DELETE_BUFFER = index("glDeleteBuffer");
+	static private final int DELETE_BUFFERS = index("glDeleteBuffers");
+	static private final int DELETE_FRAMEBUFFER = index("glDeleteFramebuffer");
+	static private final int DELETE_FRAMEBUFFERS = index("glDeleteFramebuffers");
+	static private final int DELETE_PROGRAM = index("glDeleteProgram");
+	static private final int DELETE_QUERIES = index("glDeleteQueries");
+	static private final int DELETE_RENDERBUFFER = index("glDeleteRenderbuffer");
+	static private final int DELETE_RENDERBUFFERS = index("glDeleteRenderbuffers");
+	static private final int DELETE_SAMPLERS = index("glDeleteSamplers");
+	static private final int DELETE_SHADER = index("glDeleteShader");
+	static private final int DELETE_TEXTURE = index("glDeleteTexture");
+	static private final int DELETE_TEXTURES = index("glDeleteTextures");
+	static private final int DELETE_TRANSFORM_FEEDBACKS = index("glDeleteTransformFeedbacks");
+	static private final int DELETE_VERTEX_ARRAYS = index("glDeleteVertexArrays");
+	static private final int DEPTH_FUNC = index("glDepthFunc");
+	static private final int DEPTH_MASK = index("glDepthMask");
+	static private final int DEPTH_RANGEF = index("glDepthRangef");
+	static private final int DETACH_SHADER = index("glDetachShader");
+	static private final int DISABLE = index("glDisable");
+	static private final int DISABLE_VERTEX_ATTRIB_ARRAY = index("glDisableVertexAttribArray");
+	static private final int DRAW_ARRAYS = index("glDrawArrays");
+	static private final int DRAW_ARRAYS_INSTANCED = index("glDrawArraysInstanced");
+	static private final int DRAW_BUFFERS = index("glDrawBuffers");
+	static private final int DRAW_ELEMENTS = index("glDrawElements");
+	static private final int DRAW_ELEMENTS_INSTANCED = index("glDrawElementsInstanced");
+	static private final int DRAW_RANGE_ELEMENTS = index("glDrawRangeElements");
+	static private final int ENABLE = index("glEnable");
+	static private final int ENABLE_VERTEX_ATTRIB_ARRAY = index("glEnableVertexAttribArray");
+	static private final int END_QUERY = index("glEndQuery");
+	static private final int END_TRANSFORM_FEEDBACK = index("glEndTransformFeedback");
+	static private final int FINISH = index("glFinish");
+	static private final int FLUSH = index("glFlush");
+	static private final int FLUSH_MAPPED_BUFFER_RANGE = index("glFlushMappedBufferRange");
+	static private final int FRAMEBUFFER_RENDERBUFFER = index("glFramebufferRenderbuffer");
+	static private final int FRAMEBUFFER_TEXTURE2_D = index("glFramebufferTexture2D");
+	static private final int FRAMEBUFFER_TEXTURE_LAYER = index("glFramebufferTextureLayer");
+	static private final int FRONT_FACE = index("glFrontFace");
+	static private final int GEN_BUFFER = index("glGenBuffer");
+	static private final int GEN_BUFFERS = index("glGenBuffers");
+	static private final int GEN_FRAMEBUFFER = index("glGenFramebuffer");
+	static private final int GEN_FRAMEBUFFERS = index("glGenFramebuffers");
+	static private final int GEN_QUERIES = index("glGenQueries");
+	static private final int GEN_RENDERBUFFER = index("glGenRenderbuffer");
+	static private final int GEN_RENDERBUFFERS = index("glGenRenderbuffers");
+	static private final int GEN_SAMPLERS = index("glGenSamplers");
+	static private final int GEN_TEXTURE = index("glGenTexture");
+	static private final int GEN_TEXTURES = index("glGenTextures");
+	static private final int GEN_TRANSFORM_FEEDBACKS = index("glGenTransformFeedbacks");
+	static private final int GEN_VERTEX_ARRAYS = index("glGenVertexArrays");
+	static private final int GENERATE_MIPMAP = index("glGenerateMipmap");
+	static private final int GET_ACTIVE_ATTRIB = index("glGetActiveAttrib");
+	static private final int GET_ACTIVE_UNIFORM = index("glGetActiveUniform");
+	static private final int GET_ACTIVE_UNIFORM_BLOCK_NAME = index("glGetActiveUniformBlockName");
+	static private final int GET_ACTIVE_UNIFORM_BLOCKIV = index("glGetActiveUniformBlockiv");
+	static private final int GET_ACTIVE_UNIFORMSIV = index("glGetActiveUniformsiv");
+	static private final int GET_ATTACHED_SHADERS = index("glGetAttachedShaders");
+	static private final int GET_ATTRIB_LOCATION = index("glGetAttribLocation");
+	static private final int GET_BOOLEANV = index("glGetBooleanv");
+	static private final int GET_BUFFER_PARAMETERI64V = index("glGetBufferParameteri64v");
+	static private final int GET_BUFFER_PARAMETERIV = index("glGetBufferParameteriv");
+	static private final int GET_BUFFER_POINTERV = index("glGetBufferPointerv");
+	static private final int GET_ERROR = index("glGetError");
+	static private final int GET_FLOATV = index("glGetFloatv");
+	static private final int GET_FRAG_DATA_LOCATION = index("glGetFragDataLocation");
+	static private final int GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV = index("glGetFramebufferAttachmentParameteriv");
+	static private final int GET_INTEGER64V = index("glGetInteger64v");
+	static private final int GET_INTEGERV = index("glGetIntegerv");
+	static private final int GET_PROGRAM_INFO_LOG = index("glGetProgramInfoLog");
+	static private final int GET_PROGRAMIV = index("glGetProgramiv");
+	static private final int GET_QUERY_OBJECTUIV = index("glGetQueryObjectuiv");
+	static private final int GET_QUERYIV = index("glGetQueryiv");
+	static private final int GET_RENDERBUFFER_PARAMETERIV = index("glGetRenderbufferParameteriv");
+	static private final int GET_SAMPLER_PARAMETERFV = index("glGetSamplerParameterfv");
+	static private final int GET_SAMPLER_PARAMETERIV = index("glGetSamplerParameteriv");
+	static private final int GET_SHADER_INFO_LOG = index("glGetShaderInfoLog");
+	static private final int GET_SHADER_PRECISION_FORMAT = index("glGetShaderPrecisionFormat");
+	static private final int GET_SHADER_SOURCE = index("glGetShaderSource");
+	static private final int GET_SHADERIV = index("glGetShaderiv");
+	static private final int GET_STRING = index("glGetString");
+	static private final int GET_STRINGI = index("glGetStringi");
+	static private final int GET_TEX_PARAMETERFV = index("glGetTexParameterfv");
+	static private final int GET_TEX_PARAMETERIV = index("glGetTexParameteriv");
+	static private final int GET_UNIFORM_BLOCK_INDEX = index("glGetUniformBlockIndex");
+	static private final int GET_UNIFORM_INDICES = index("glGetUniformIndices");
+	static private final int GET_UNIFORM_LOCATION = index("glGetUniformLocation");
+	static private final int GET_UNIFORMFV = index("glGetUniformfv");
+	static private final int GET_UNIFORMIV = index("glGetUniformiv");
+	static private final int GET_UNIFORMUIV = index("glGetUniformuiv");
+	static private final int GET_VERTEX_ATTRIB_IIV = index("glGetVertexAttribIiv");
+	static private final int GET_VERTEX_ATTRIB_IUIV = index("glGetVertexAttribIuiv");
+	static private final int GET_VERTEX_ATTRIB_POINTERV = index("glGetVertexAttribPointerv");
+	static private final int GET_VERTEX_ATTRIBFV = index("glGetVertexAttribfv");
+	static private final int GET_VERTEX_ATTRIBIV = index("glGetVertexAttribiv");
+	static private final int HINT = index("glHint");
+	static private final int INVALIDATE_FRAMEBUFFER = index("glInvalidateFramebuffer");
+	static private final int INVALIDATE_SUB_FRAMEBUFFER = index("glInvalidateSubFramebuffer");
+	static private final int IS_BUFFER = index("glIsBuffer");
+	static private final int IS_ENABLED = index("glIsEnabled");
+	static private final int IS_FRAMEBUFFER = index("glIsFramebuffer");
+	static private final int IS_PROGRAM = index("glIsProgram");
+	static private final int IS_QUERY = index("glIsQuery");
+	static private final int IS_RENDERBUFFER = index("glIsRenderbuffer");
+	static private final int IS_SAMPLER = index("glIsSampler");
+	static private final int IS_SHADER = index("glIsShader");
+	static private final int IS_TEXTURE = index("glIsTexture");
+	static private final int IS_TRANSFORM_FEEDBACK = index("glIsTransformFeedback");
+	static private final int IS_VERTEX_ARRAY = index("glIsVertexArray");
+	static private final int LINE_WIDTH = index("glLineWidth");
+	static private final int LINK_PROGRAM = index("glLinkProgram");
+	static private final int PAUSE_TRANSFORM_FEEDBACK = index("glPauseTransformFeedback");
+	static private final int PIXEL_STOREI = index("glPixelStorei");
+	static private final int POLYGON_OFFSET = index("glPolygonOffset");
+	static private final int PROGRAM_PARAMETERI = index("glProgramParameteri");
+	static private final int READ_BUFFER = index("glReadBuffer");
+	static private final int READ_PIXELS = index("glReadPixels");
+	static private final int RELEASE_SHADER_COMPILER = index("glReleaseShaderCompiler");
+	static private final int RENDERBUFFER_STORAGE = index("glRenderbufferStorage");
+	static private final int RENDERBUFFER_STORAGE_MULTISAMPLE = index("glRenderbufferStorageMultisample");
+	static private final int RESUME_TRANSFORM_FEEDBACK = index("glResumeTransformFeedback");
+	static private final int SAMPLE_COVERAGE = index("glSampleCoverage");
+	static private final int SAMPLER_PARAMETERF = index("glSamplerParameterf");
+	static private final int SAMPLER_PARAMETERFV = index("glSamplerParameterfv");
+	static private final int SAMPLER_PARAMETERI = index("glSamplerParameteri");
+	static private final int SAMPLER_PARAMETERIV = index("glSamplerParameteriv");
+	static private final int SCISSOR = index("glScissor");
+	static private final int SHADER_BINARY = index("glShaderBinary");
+	static private final int SHADER_SOURCE = index("glShaderSource");
+	static private final int STENCIL_FUNC = index("glStencilFunc");
+	static private final int STENCIL_FUNC_SEPARATE = index("glStencilFuncSeparate");
+	static private final int STENCIL_MASK = index("glStencilMask");
+	static private final int STENCIL_MASK_SEPARATE = index("glStencilMaskSeparate");
+	static private final int STENCIL_OP = index("glStencilOp");
+	static private final int STENCIL_OP_SEPARATE = index("glStencilOpSeparate");
+	static private final int TEX_IMAGE2_D = index("glTexImage2D");
+	static private final int TEX_IMAGE3_D = index("glTexImage3D");
+	static private final int TEX_PARAMETERF = index("glTexParameterf");
+	static private final int TEX_PARAMETERFV = index("glTexParameterfv");
+	static private final int TEX_PARAMETERI = index("glTexParameteri");
+	static private final int TEX_PARAMETERIV = index("glTexParameteriv");
+	static private final int TEX_SUB_IMAGE2_D = index("glTexSubImage2D");
+	static private final int TEX_SUB_IMAGE3_D = index("glTexSubImage3D");
+	static private final int TRANSFORM_FEEDBACK_VARYINGS = index("glTransformFeedbackVaryings");
+	static private final int UNIFORM1F = index("glUniform1f");
+	static private final int UNIFORM1FV = index("glUniform1fv");
+	static private final int UNIFORM1I = index("glUniform1i");
+	static private final int UNIFORM1IV = index("glUniform1iv");
+	static private final int UNIFORM1UIV = index("glUniform1uiv");
+	static private final int UNIFORM2F = index("glUniform2f");
+	static private final int UNIFORM2FV = index("glUniform2fv");
+	static private final int UNIFORM2I = index("glUniform2i");
+	static private final int UNIFORM2IV = index("glUniform2iv");
+	static private final int UNIFORM3F = index("glUniform3f");
+	static private final int UNIFORM3FV = index("glUniform3fv");
+	static private final int UNIFORM3I = index("glUniform3i");
+	static private final int UNIFORM3IV = index("glUniform3iv");
+	static private final int UNIFORM3UIV = index("glUniform3uiv");
+	static private final int UNIFORM4F = index("glUniform4f");
+	static private final int UNIFORM4FV = index("glUniform4fv");
+	static private final int UNIFORM4I = index("glUniform4i");
+	static private final int UNIFORM4IV = index("glUniform4iv");
+	static private final int UNIFORM4UIV = index("glUniform4uiv");
+	static private final int UNIFORM_BLOCK_BINDING = index("glUniformBlockBinding");
+	static private final int UNIFORM_MATRIX2FV = index("glUniformMatrix2fv");
+	static private final int UNIFORM_MATRIX2X3FV = index("glUniformMatrix2x3fv");
+	static private final int UNIFORM_MATRIX2X4FV = index("glUniformMatrix2x4fv");
+	static private final int UNIFORM_MATRIX3FV = index("glUniformMatrix3fv");
+	static private final int UNIFORM_MATRIX3X2FV = index("glUniformMatrix3x2fv");
+	static private final int UNIFORM_MATRIX3X4FV = index("glUniformMatrix3x4fv");
+	static private final int UNIFORM_MATRIX4FV = index("glUniformMatrix4fv");
+	static private final int UNIFORM_MATRIX4X2FV = index("glUniformMatrix4x2fv");
+	static private final int UNIFORM_MATRIX4X3FV = index("glUniformMatrix4x3fv");
+	static private final int UNMAP_BUFFER = index("glUnmapBuffer");
+	static private final int USE_PROGRAM = index("glUseProgram");
+	static private final int VALIDATE_PROGRAM = index("glValidateProgram");
+	static private final int VERTEX_ATTRIB1F = index("glVertexAttrib1f");
+	static private final int VERTEX_ATTRIB1FV = index("glVertexAttrib1fv");
+	static private final int VERTEX_ATTRIB2F = index("glVertexAttrib2f");
+	static private final int VERTEX_ATTRIB2FV = index("glVertexAttrib2fv");
+	static private final int VERTEX_ATTRIB3F = index("glVertexAttrib3f");
+	static private final int VERTEX_ATTRIB3FV = index("glVertexAttrib3fv");
+	static private final int VERTEX_ATTRIB4F = index("glVertexAttrib4f");
+	static private final int VERTEX_ATTRIB4FV = index("glVertexAttrib4fv");
+	static private final int VERTEX_ATTRIB_DIVISOR = index("glVertexAttribDivisor");
+	static private final int VERTEX_ATTRIB_I4I = index("glVertexAttribI4i");
+	static private final int VERTEX_ATTRIB_I4UI = index("glVertexAttribI4ui");
+	static private final int VERTEX_ATTRIB_IPOINTER = index("glVertexAttribIPointer");
+	static private final int VERTEX_ATTRIB_POINTER = index("glVertexAttribPointer");
+	static private final int VIEWPORT = index("glViewport");
+	static private final int DRAW_ARRAYS_INDIRECT = index("glDrawArraysIndirect");
+	static private final int DRAW_ELEMENTS_INDIRECT = index("glDrawElementsIndirect");
+	static private final int MULTI_DRAW_ARRAYS = index("glMultiDrawArrays");
+	static private final int MULTI_DRAW_ARRAYS_INDIRECT = index("glMultiDrawArraysIndirect");
+	static private final int MULTI_DRAW_ELEMENTS = index("glMultiDrawElements");
+	static private final int MULTI_DRAW_ELEMENTS_INDIRECT = index("glMultiDrawElementsIndirect");
+
+	private final GL20 gl20;
+	private final GL30 gl30;
+	private final JglfwGLMultiDraw multiDraw;
+	private final FrameStats current = new FrameStats(), last = new FrameStats();
+	private int currentProgram;
+
+	/** @param gl30 May be null if only GL20 is available, in which case the GL30 methods must not be called. */
+	public JglfwGLProfiler (GL20 gl20, GL30 gl30) {
+		if (gl20 == null) throw new IllegalArgumentException("gl20 cannot be null.");
+		this.gl20 = gl20;
+		this.gl30 = gl30;
+		multiDraw = gl20 instanceof JglfwGLMultiDraw ? (JglfwGLMultiDraw)gl20 : null;
+	}
+
+	static private int index (String methodName) {
+		for (int i = 0; i < methodNames.length; i++)
+			if (methodNames[i].equals(methodName)) return i;
+		throw new IllegalArgumentException("Unknown GL method: " + methodName);
+	}
+
+	/** Ends the frame being counted, making it the last frame, and starts counting a new one. Called on the thread that renders,
+	 * between frames. */
+	void frameStart () {
+		int calls = 0;
+		for (int i = 0, n = methodNames.length; i < n; i++)
+			calls += current.methodCalls[i];
+		current.calls = calls;
+		synchronized (last) {
+			last.set(current);
+		}
+		current.reset();
+	}
+
+	/** Copies the counts of the last complete frame into the given stats and returns it. May be called from any thread. */
+	public FrameStats getLastFrame (FrameStats out) {
+		synchronized (last) {
+			out.set(last);
+		}
+		return out;
+	}
+
+	/** Returns the number of distinct GL methods counted, the length of {@link FrameStats#methodCalls}. */
+	static public int getMethodCount () {
+		return methodNames.length;
+	}
+
+	/** Returns the name of the GL method counted at the given index of {@link FrameStats#methodCalls}. Overloads share an index. */
+	static public String getMethodName (int index) {
+		return methodNames[index];
+	}
+
+	/** GL usage during one frame. */
+	static public class FrameStats {
+		public int calls, drawCalls, vertexCount, textureBindings, shaderSwitches;
+		public long bufferBytes;
+		/** Calls per GL method, indexed as {@link JglfwGLProfiler#getMethodName(int)}. */
+		public final int[] methodCalls = new int[methodNames.length];
+
+		void reset () {
+			calls = 0;
+			drawCalls = 0;
+			vertexCount = 0;
+			textureBindings = 0;
+			shaderSwitches = 0;
+			bufferBytes = 0;
+			for (int i = 0; i < methodCalls.length; i++)
+				methodCalls[i] = 0;
+		}
+
+		void set (FrameStats stats) {
+			calls = stats.calls;
+			drawCalls = stats.drawCalls;
+			vertexCount = stats.vertexCount;
+			textureBindings = stats.textureBindings;
+			shaderSwitches = stats.shaderSwitches;
+			bufferBytes = stats.bufferBytes;
+			System.arraycopy(stats.methodCalls, 0, methodCalls, 0, methodCalls.length);
+		}
+	}
+
+	public void glActiveTexture (int texture) {
+		current.methodCalls[ACTIVE_TEXTURE]++;
+		gl20.glActiveTexture(texture);
+	}
+
+	public void glBindTexture (int target, int texture) {
+		current.methodCalls[BIND_TEXTURE]++;
+		current.textureBindings++;
+		gl20.glBindTexture(target, texture);
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		current.methodCalls[BLEND_FUNC]++;
+		gl20.glBlendFunc(sfactor, dfactor);
+	}
+
+	public void glClear (int mask) {
+		current.methodCalls[CLEAR]++;
+		gl20.glClear(mask);
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		current.methodCalls[CLEAR_COLOR]++;
+		gl20.glClearColor(red, green, blue, alpha);
+	}
+
+	public void glClearDepthf (float depth) {
+		current.methodCalls[CLEAR_DEPTHF]++;
+		gl20.glClearDepthf(depth);
+	}
+
+	public void glClearStencil (int s) {
+		current.methodCalls[CLEAR_STENCIL]++;
+		gl20.glClearStencil(s);
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		current.methodCalls[COLOR_MASK]++;
+		gl20.glColorMask(red, green, blue, alpha);
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		current.methodCalls[COMPRESSED_TEX_IMAGE2_D]++;
+		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		current.methodCalls[COMPRESSED_TEX_SUB_IMAGE2_D]++;
+		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		current.methodCalls[COPY_TEX_IMAGE2_D]++;
+		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		current.methodCalls[COPY_TEX_SUB_IMAGE2_D]++;
+		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+	}
+
+	public void glCullFace (int mode) {
+		current.methodCalls[CULL_FACE]++;
+		gl20.glCullFace(mode);
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		current.methodCalls[DELETE_TEXTURES]++;
+		gl20.glDeleteTextures(n, textures);
+	}
+
+	public void glDeleteTexture (int texture) {
+		current.methodCalls[DELETE_TEXTURE]++;
+		gl20.glDeleteTexture(texture);
+	}
+
+	public void glDepthFunc (int func) {
+		current.methodCalls[DEPTH_FUNC]++;
+		gl20.glDepthFunc(func);
+	}
+
+	public void glDepthMask (boolean flag) {
+		current.methodCalls[DEPTH_MASK]++;
+		gl20.glDepthMask(flag);
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		current.methodCalls[DEPTH_RANGEF]++;
+		gl20.glDepthRangef(zNear, zFar);
+	}
+
+	public void glDisable (int cap) {
+		current.methodCalls[DISABLE]++;
+		gl20.glDisable(cap);
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		current.methodCalls[DRAW_ARRAYS]++;
+		current.drawCalls++;
+		current.vertexCount += count;
+		gl20.glDrawArrays(mode, first, count);
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		current.methodCalls[DRAW_ELEMENTS]++;
+		current.drawCalls++;
+		current.vertexCount += count;
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glEnable (int cap) {
+		current.methodCalls[ENABLE]++;
+		gl20.glEnable(cap);
+	}
+
+	public void glFinish () {
+		current.methodCalls[FINISH]++;
+		gl20.glFinish();
+	}
+
+	public void glFlush () {
+		current.methodCalls[FLUSH]++;
+		gl20.glFlush();
+	}
+
+	public void glFrontFace (int mode) {
+		current.methodCalls[FRONT_FACE]++;
+		gl20.glFrontFace(mode);
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		current.methodCalls[GEN_TEXTURES]++;
+		gl20.glGenTextures(n, textures);
+	}
+
+	public int glGenTexture () {
+		current.methodCalls[GEN_TEXTURE]++;
+		return gl20.glGenTexture();
+	}
+
+	public int glGetError () {
+		current.methodCalls[GET_ERROR]++;
+		return gl20.glGetError();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		current.methodCalls[GET_INTEGERV]++;
+		gl20.glGetIntegerv(pname, params);
+	}
+
+	public String glGetString (int name) {
+		current.methodCalls[GET_STRING]++;
+		return gl20.glGetString(name);
+	}
+
+	public void glHint (int target, int mode) {
+		current.methodCalls[HINT]++;
+		gl20.glHint(target, mode);
+	}
+
+	public void glLineWidth (float width) {
+		current.methodCalls[LINE_WIDTH]++;
+		gl20.glLineWidth(width);
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		current.methodCalls[PIXEL_STOREI]++;
+		gl20.glPixelStorei(pname, param);
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		current.methodCalls[POLYGON_OFFSET]++;
+		gl20.glPolygonOffset(factor, units);
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		current.methodCalls[READ_PIXELS]++;
+		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		current.methodCalls[SCISSOR]++;
+		gl20.glScissor(x, y, width, height);
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		current.methodCalls[STENCIL_FUNC]++;
+		gl20.glStencilFunc(func, ref, mask);
+	}
+
+	public void glStencilMask (int mask) {
+		current.methodCalls[STENCIL_MASK]++;
+		gl20.glStencilMask(mask);
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		current.methodCalls[STENCIL_OP]++;
+		gl20.glStencilOp(fail, zfail, zpass);
+	}
+
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format,
+		int type, Buffer pixels) {
+		current.methodCalls[TEX_IMAGE2_D]++;
+		gl20.glTexImage2D(target, level, internalFormat, width, height, border, format, type, pixels);
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		current.methodCalls[TEX_PARAMETERF]++;
+		gl20.glTexParameterf(target, pname, param);
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		current.methodCalls[TEX_SUB_IMAGE2_D]++;
+		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		current.methodCalls[VIEWPORT]++;
+		gl20.glViewport(x, y, width, height);
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		current.methodCalls[GET_FLOATV]++;
+		gl20.glGetFloatv(pname, params);
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		current.methodCalls[GET_TEX_PARAMETERFV]++;
+		gl20.glGetTexParameterfv(target, pname, params);
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		current.methodCalls[TEX_PARAMETERFV]++;
+		gl20.glTexParameterfv(target, pname, params);
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		current.methodCalls[BIND_BUFFER]++;
+		gl20.glBindBuffer(target, buffer);
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		current.methodCalls[BUFFER_DATA]++;
+		current.bufferBytes += size;
+		gl20.glBufferData(target, size, data, usage);
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		current.methodCalls[BUFFER_SUB_DATA]++;
+		current.bufferBytes += size;
+		gl20.glBufferSubData(target, offset, size, data);
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		current.methodCalls[DELETE_BUFFERS]++;
+		gl20.glDeleteBuffers(n, buffers);
+	}
+
+	public void glDeleteBuffer (int buffer) {
+		current.methodCalls[DELETE_BUFFER]++;
+		gl20.glDeleteBuffer(buffer);
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		current.methodCalls[GET_BUFFER_PARAMETERIV]++;
+		gl20.glGetBufferParameteriv(target, pname, params);
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		current.methodCalls[GEN_BUFFERS]++;
+		gl20.glGenBuffers(n, buffers);
+	}
+
+	public int glGenBuffer () {
+		current.methodCalls[GEN_BUFFER]++;
+		return gl20.glGenBuffer();
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		current.methodCalls[GET_TEX_PARAMETERIV]++;
+		gl20.glGetTexParameteriv(target, pname, params);
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		current.methodCalls[IS_BUFFER]++;
+		return gl20.glIsBuffer(buffer);
+	}
+
+	public boolean glIsEnabled (int cap) {
+		current.methodCalls[IS_ENABLED]++;
+		return gl20.glIsEnabled(cap);
+	}
+
+	public boolean glIsTexture (int texture) {
+		current.methodCalls[IS_TEXTURE]++;
+		return gl20.glIsTexture(texture);
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		current.methodCalls[TEX_PARAMETERI]++;
+		gl20.glTexParameteri(target, pname, param);
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		current.methodCalls[TEX_PARAMETERIV]++;
+		gl20.glTexParameteriv(target, pname, params);
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		current.methodCalls[DRAW_ELEMENTS]++;
+		current.drawCalls++;
+		current.vertexCount += count;
+		gl20.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glAttachShader (int program, int shader) {
+		current.methodCalls[ATTACH_SHADER]++;
+		gl20.glAttachShader(program, shader);
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		current.methodCalls[BIND_ATTRIB_LOCATION]++;
+		gl20.glBindAttribLocation(program, index, name);
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		current.methodCalls[BIND_FRAMEBUFFER]++;
+		gl20.glBindFramebuffer(target, framebuffer);
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		current.methodCalls[BIND_RENDERBUFFER]++;
+		gl20.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		current.methodCalls[BLEND_COLOR]++;
+		gl20.glBlendColor(red, green, blue, alpha);
+	}
+
+	public void glBlendEquation (int mode) {
+		current.methodCalls[BLEND_EQUATION]++;
+		gl20.glBlendEquation(mode);
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		current.methodCalls[BLEND_EQUATION_SEPARATE]++;
+		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		current.methodCalls[BLEND_FUNC_SEPARATE]++;
+		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		current.methodCalls[CHECK_FRAMEBUFFER_STATUS]++;
+		return gl20.glCheckFramebufferStatus(target);
+	}
+
+	public void glCompileShader (int shader) {
+		current.methodCalls[COMPILE_SHADER]++;
+		gl20.glCompileShader(shader);
+	}
+
+	public int glCreateProgram () {
+		current.methodCalls[CREATE_PROGRAM]++;
+		return gl20.glCreateProgram();
+	}
+
+	public int glCreateShader (int type) {
+		current.methodCalls[CREATE_SHADER]++;
+		return gl20.glCreateShader(type);
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		current.methodCalls[DELETE_FRAMEBUFFERS]++;
+		gl20.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	public void glDeleteFramebuffer (int framebuffer) {
+		current.methodCalls[DELETE_FRAMEBUFFER]++;
+		gl20.glDeleteFramebuffer(framebuffer);
+	}
+
+	public void glDeleteProgram (int program) {
+		current.methodCalls[DELETE_PROGRAM]++;
+		gl20.glDeleteProgram(program);
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		current.methodCalls[DELETE_RENDERBUFFERS]++;
+		gl20.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		current.methodCalls[DELETE_RENDERBUFFER]++;
+		gl20.glDeleteRenderbuffer(renderbuffer);
+	}
+
+	public void glDeleteShader (int shader) {
+		current.methodCalls[DELETE_SHADER]++;
+		gl20.glDeleteShader(shader);
+	}
+
+	public void glDetachShader (int program, int shader) {
+		current.methodCalls[DETACH_SHADER]++;
+		gl20.glDetachShader(program, shader);
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		current.methodCalls[DISABLE_VERTEX_ATTRIB_ARRAY]++;
+		gl20.glDisableVertexAttribArray(index);
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		current.methodCalls[ENABLE_VERTEX_ATTRIB_ARRAY]++;
+		gl20.glEnableVertexAttribArray(index);
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		current.methodCalls[FRAMEBUFFER_RENDERBUFFER]++;
+		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		current.methodCalls[FRAMEBUFFER_TEXTURE2_D]++;
+		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+	}
+
+	public void glGenerateMipmap (int target) {
+		current.methodCalls[GENERATE_MIPMAP]++;
+		gl20.glGenerateMipmap(target);
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		current.methodCalls[GEN_FRAMEBUFFERS]++;
+		gl20.glGenFramebuffers(n, framebuffers);
+	}
+
+	public int glGenFramebuffer () {
+		current.methodCalls[GEN_FRAMEBUFFER]++;
+		return gl20.glGenFramebuffer();
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		current.methodCalls[GEN_RENDERBUFFERS]++;
+		gl20.glGenRenderbuffers(n, renderbuffers);
+	}
+
+	public int glGenRenderbuffer () {
+		current.methodCalls[GEN_RENDERBUFFER]++;
+		return gl20.glGenRenderbuffer();
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		current.methodCalls[GET_ACTIVE_ATTRIB]++;
+		return gl20.glGetActiveAttrib(program, index, size, type);
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		current.methodCalls[GET_ACTIVE_UNIFORM]++;
+		return gl20.glGetActiveUniform(program, index, size, type);
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		current.methodCalls[GET_ATTACHED_SHADERS]++;
+		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		current.methodCalls[GET_ATTRIB_LOCATION]++;
+		return gl20.glGetAttribLocation(program, name);
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		current.methodCalls[GET_BOOLEANV]++;
+		gl20.glGetBooleanv(pname, params);
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		current.methodCalls[GET_FRAMEBUFFER_ATTACHMENT_PARAMETERIV]++;
+		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		current.methodCalls[GET_PROGRAMIV]++;
+		gl20.glGetProgramiv(program, pname, params);
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		current.methodCalls[GET_PROGRAM_INFO_LOG]++;
+		return gl20.glGetProgramInfoLog(program);
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		current.methodCalls[GET_RENDERBUFFER_PARAMETERIV]++;
+		gl20.glGetRenderbufferParameteriv(target, pname, params);
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		current.methodCalls[GET_SHADERIV]++;
+		gl20.glGetShaderiv(shader, pname, params);
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		current.methodCalls[GET_SHADER_INFO_LOG]++;
+		return gl20.glGetShaderInfoLog(shader);
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		current.methodCalls[GET_SHADER_PRECISION_FORMAT]++;
+		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+	}
+
+	public void glGetShaderSource (int shader, int bufsize, Buffer length, String source) {
+		current.methodCalls[GET_SHADER_SOURCE]++;
+		gl20.glGetShaderSource(shader, bufsize, length, source);
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		current.methodCalls[GET_UNIFORMFV]++;
+		gl20.glGetUniformfv(program, location, params);
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		current.methodCalls[GET_UNIFORMIV]++;
+		gl20.glGetUniformiv(program, location, params);
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		current.methodCalls[GET_UNIFORM_LOCATION]++;
+		return gl20.glGetUniformLocation(program, name);
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		current.methodCalls[GET_VERTEX_ATTRIBFV]++;
+		gl20.glGetVertexAttribfv(index, pname, params);
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		current.methodCalls[GET_VERTEX_ATTRIBIV]++;
+		gl20.glGetVertexAttribiv(index, pname, params);
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		current.methodCalls[GET_VERTEX_ATTRIB_POINTERV]++;
+		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		current.methodCalls[IS_FRAMEBUFFER]++;
+		return gl20.glIsFramebuffer(framebuffer);
+	}
+
+	public boolean glIsProgram (int program) {
+		current.methodCalls[IS_PROGRAM]++;
+		return gl20.glIsProgram(program);
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		current.methodCalls[IS_RENDERBUFFER]++;
+		return gl20.glIsRenderbuffer(renderbuffer);
+	}
+
+	public boolean glIsShader (int shader) {
+		current.methodCalls[IS_SHADER]++;
+		return gl20.glIsShader(shader);
+	}
+
+	public void glLinkProgram (int program) {
+		current.methodCalls[LINK_PROGRAM]++;
+		gl20.glLinkProgram(program);
+	}
+
+	public void glReleaseShaderCompiler () {
+		current.methodCalls[RELEASE_SHADER_COMPILER]++;
+		gl20.glReleaseShaderCompiler();
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		current.methodCalls[RENDERBUFFER_STORAGE]++;
+		gl20.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		current.methodCalls[SAMPLE_COVERAGE]++;
+		gl20.glSampleCoverage(value, invert);
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		current.methodCalls[SHADER_BINARY]++;
+		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+	}
+
+	public void glShaderSource (int shader, String string) {
+		current.methodCalls[SHADER_SOURCE]++;
+		gl20.glShaderSource(shader, string);
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		current.methodCalls[STENCIL_FUNC_SEPARATE]++;
+		gl20.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		current.methodCalls[STENCIL_MASK_SEPARATE]++;
+		gl20.glStencilMaskSeparate(face, mask);
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		current.methodCalls[STENCIL_OP_SEPARATE]++;
+		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	public void glUniform1f (int location, float x) {
+		current.methodCalls[UNIFORM1F]++;
+		gl20.glUniform1f(location, x);
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		current.methodCalls[UNIFORM1FV]++;
+		gl20.glUniform1fv(location, count, v);
+	}
+
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		current.methodCalls[UNIFORM1FV]++;
+		gl20.glUniform1fv(location, count, v, offset);
+	}
+
+	public void glUniform1i (int location, int x) {
+		current.methodCalls[UNIFORM1I]++;
+		gl20.glUniform1i(location, x);
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		current.methodCalls[UNIFORM1IV]++;
+		gl20.glUniform1iv(location, count, v);
+	}
+
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		current.methodCalls[UNIFORM1IV]++;
+		gl20.glUniform1iv(location, count, v, offset);
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		current.methodCalls[UNIFORM2F]++;
+		gl20.glUniform2f(location, x, y);
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		current.methodCalls[UNIFORM2FV]++;
+		gl20.glUniform2fv(location, count, v);
+	}
+
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		current.methodCalls[UNIFORM2FV]++;
+		gl20.glUniform2fv(location, count, v, offset);
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		current.methodCalls[UNIFORM2I]++;
+		gl20.glUniform2i(location, x, y);
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		current.methodCalls[UNIFORM2IV]++;
+		gl20.glUniform2iv(location, count, v);
+	}
+
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		current.methodCalls[UNIFORM2IV]++;
+		gl20.glUniform2iv(location, count, v, offset);
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		current.methodCalls[UNIFORM3F]++;
+		gl20.glUniform3f(location, x, y, z);
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		current.methodCalls[UNIFORM3FV]++;
+		gl20.glUniform3fv(location, count, v);
+	}
+
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		current.methodCalls[UNIFORM3FV]++;
+		gl20.glUniform3fv(location, count, v, offset);
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		current.methodCalls[UNIFORM3I]++;
+		gl20.glUniform3i(location, x, y, z);
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		current.methodCalls[UNIFORM3IV]++;
+		gl20.glUniform3iv(location, count, v);
+	}
+
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		current.methodCalls[UNIFORM3IV]++;
+		gl20.glUniform3iv(location, count, v, offset);
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		current.methodCalls[UNIFORM4F]++;
+		gl20.glUniform4f(location, x, y, z, w);
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		current.methodCalls[UNIFORM4FV]++;
+		gl20.glUniform4fv(location, count, v);
+	}
+
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		current.methodCalls[UNIFORM4FV]++;
+		gl20.glUniform4fv(location, count, v, offset);
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		current.methodCalls[UNIFORM4I]++;
+		gl20.glUniform4i(location, x, y, z, w);
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		current.methodCalls[UNIFORM4IV]++;
+		gl20.glUniform4iv(location, count, v);
+	}
+
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		current.methodCalls[UNIFORM4IV]++;
+		gl20.glUniform4iv(location, count, v, offset);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX2FV]++;
+		gl20.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		current.methodCalls[UNIFORM_MATRIX2FV]++;
+		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX3FV]++;
+		gl20.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		current.methodCalls[UNIFORM_MATRIX3FV]++;
+		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX4FV]++;
+		gl20.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		current.methodCalls[UNIFORM_MATRIX4FV]++;
+		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+	}
+
+	public void glUseProgram (int program) {
+		current.methodCalls[USE_PROGRAM]++;
+		if (program != currentProgram) {
+			current.shaderSwitches++;
+			currentProgram = program;
+		}
+		gl20.glUseProgram(program);
+	}
+
+	public void glValidateProgram (int program) {
+		current.methodCalls[VALIDATE_PROGRAM]++;
+		gl20.glValidateProgram(program);
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		current.methodCalls[VERTEX_ATTRIB1F]++;
+		gl20.glVertexAttrib1f(indx, x);
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		current.methodCalls[VERTEX_ATTRIB1FV]++;
+		gl20.glVertexAttrib1fv(indx, values);
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		current.methodCalls[VERTEX_ATTRIB2F]++;
+		gl20.glVertexAttrib2f(indx, x, y);
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		current.methodCalls[VERTEX_ATTRIB2FV]++;
+		gl20.glVertexAttrib2fv(indx, values);
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		current.methodCalls[VERTEX_ATTRIB3F]++;
+		gl20.glVertexAttrib3f(indx, x, y, z);
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		current.methodCalls[VERTEX_ATTRIB3FV]++;
+		gl20.glVertexAttrib3fv(indx, values);
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		current.methodCalls[VERTEX_ATTRIB4F]++;
+		gl20.glVertexAttrib4f(indx, x, y, z, w);
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		current.methodCalls[VERTEX_ATTRIB4FV]++;
+		gl20.glVertexAttrib4fv(indx, values);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer buffer) {
+		current.methodCalls[VERTEX_ATTRIB_POINTER]++;
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, buffer);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		current.methodCalls[VERTEX_ATTRIB_POINTER]++;
+		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	public void glReadBuffer (int mode) {
+		current.methodCalls[READ_BUFFER]++;
+		gl30.glReadBuffer(mode);
+	}
+
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		current.methodCalls[DRAW_RANGE_ELEMENTS]++;
+		current.drawCalls++;
+		current.vertexCount += count;
+		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+	}
+
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		current.methodCalls[DRAW_RANGE_ELEMENTS]++;
+		current.drawCalls++;
+		current.vertexCount += count;
+		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+	}
+
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border,
+		int format, int type, Buffer pixels) {
+		current.methodCalls[TEX_IMAGE3_D]++;
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+	}
+
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border,
+		int format, int type, int offset) {
+		current.methodCalls[TEX_IMAGE3_D]++;
+		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+	}
+
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height,
+		int depth, int format, int type, Buffer pixels) {
+		current.methodCalls[TEX_SUB_IMAGE3_D]++;
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+	}
+
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height,
+		int depth, int format, int type, int offset) {
+		current.methodCalls[TEX_SUB_IMAGE3_D]++;
+		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+	}
+
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width,
+		int height) {
+		current.methodCalls[COPY_TEX_SUB_IMAGE3_D]++;
+		gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+	}
+
+	public void glGenQueries (int n, int[] ids, int offset) {
+		current.methodCalls[GEN_QUERIES]++;
+		gl30.glGenQueries(n, ids, offset);
+	}
+
+	public void glGenQueries (int n, IntBuffer ids) {
+		current.methodCalls[GEN_QUERIES]++;
+		gl30.glGenQueries(n, ids);
+	}
+
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		current.methodCalls[DELETE_QUERIES]++;
+		gl30.glDeleteQueries(n, ids, offset);
+	}
+
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		current.methodCalls[DELETE_QUERIES]++;
+		gl30.glDeleteQueries(n, ids);
+	}
+
+	public boolean glIsQuery (int id) {
+		current.methodCalls[IS_QUERY]++;
+		return gl30.glIsQuery(id);
+	}
+
+	public void glBeginQuery (int target, int id) {
+		current.methodCalls[BEGIN_QUERY]++;
+		gl30.glBeginQuery(target, id);
+	}
+
+	public void glEndQuery (int target) {
+		current.methodCalls[END_QUERY]++;
+		gl30.glEndQuery(target);
+	}
+
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		current.methodCalls[GET_QUERYIV]++;
+		gl30.glGetQueryiv(target, pname, params);
+	}
+
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		current.methodCalls[GET_QUERY_OBJECTUIV]++;
+		gl30.glGetQueryObjectuiv(id, pname, params);
+	}
+
+	public boolean glUnmapBuffer (int target) {
+		current.methodCalls[UNMAP_BUFFER]++;
+		return gl30.glUnmapBuffer(target);
+	}
+
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		current.methodCalls[GET_BUFFER_POINTERV]++;
+		return gl30.glGetBufferPointerv(target, pname);
+	}
+
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		current.methodCalls[DRAW_BUFFERS]++;
+		gl30.glDrawBuffers(n, bufs);
+	}
+
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX2X3FV]++;
+		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX3X2FV]++;
+		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX2X4FV]++;
+		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX4X2FV]++;
+		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX3X4FV]++;
+		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		current.methodCalls[UNIFORM_MATRIX4X3FV]++;
+		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+	}
+
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1,
+		int mask, int filter) {
+		current.methodCalls[BLIT_FRAMEBUFFER]++;
+		gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+	}
+
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		current.methodCalls[RENDERBUFFER_STORAGE_MULTISAMPLE]++;
+		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+	}
+
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		current.methodCalls[FRAMEBUFFER_TEXTURE_LAYER]++;
+		gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+	}
+
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		current.methodCalls[FLUSH_MAPPED_BUFFER_RANGE]++;
+		gl30.glFlushMappedBufferRange(target, offset, length);
+	}
+
+	public void glBindVertexArray (int array) {
+		current.methodCalls[BIND_VERTEX_ARRAY]++;
+		gl30.glBindVertexArray(array);
+	}
+
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		current.methodCalls[DELETE_VERTEX_ARRAYS]++;
+		gl30.glDeleteVertexArrays(n, arrays, offset);
+	}
+
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		current.methodCalls[DELETE_VERTEX_ARRAYS]++;
+		gl30.glDeleteVertexArrays(n, arrays);
+	}
+
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		current.methodCalls[GEN_VERTEX_ARRAYS]++;
+		gl30.glGenVertexArrays(n, arrays, offset);
+	}
+
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		current.methodCalls[GEN_VERTEX_ARRAYS]++;
+		gl30.glGenVertexArrays(n, arrays);
+	}
+
+	public boolean glIsVertexArray (int array) {
+		current.methodCalls[IS_VERTEX_ARRAY]++;
+		return gl30.glIsVertexArray(array);
+	}
+
+	public void glBeginTransformFeedback (int primitiveMode) {
+		current.methodCalls[BEGIN_TRANSFORM_FEEDBACK]++;
+		gl30.glBeginTransformFeedback(primitiveMode);
+	}
+
+	public void glEndTransformFeedback () {
+		current.methodCalls[END_TRANSFORM_FEEDBACK]++;
+		gl30.glEndTransformFeedback();
+	}
+
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		current.methodCalls[BIND_BUFFER_RANGE]++;
+		gl30.glBindBufferRange(target, index, buffer, offset, size);
+	}
+
+	public void glBindBufferBase (int target, int index, int buffer) {
+		current.methodCalls[BIND_BUFFER_BASE]++;
+		gl30.glBindBufferBase(target, index, buffer);
+	}
+
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		current.methodCalls[TRANSFORM_FEEDBACK_VARYINGS]++;
+		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+	}
+
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		current.methodCalls[VERTEX_ATTRIB_IPOINTER]++;
+		gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+	}
+
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		current.methodCalls[GET_VERTEX_ATTRIB_IIV]++;
+		gl30.glGetVertexAttribIiv(index, pname, params);
+	}
+
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		current.methodCalls[GET_VERTEX_ATTRIB_IUIV]++;
+		gl30.glGetVertexAttribIuiv(index, pname, params);
+	}
+
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		current.methodCalls[VERTEX_ATTRIB_I4I]++;
+		gl30.glVertexAttribI4i(index, x, y, z, w);
+	}
+
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		current.methodCalls[VERTEX_ATTRIB_I4UI]++;
+		gl30.glVertexAttribI4ui(index, x, y, z, w);
+	}
+
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		current.methodCalls[GET_UNIFORMUIV]++;
+		gl30.glGetUniformuiv(program, location, params);
+	}
+
+	public int glGetFragDataLocation (int program, String name) {
+		current.methodCalls[GET_FRAG_DATA_LOCATION]++;
+		return gl30.glGetFragDataLocation(program, name);
+	}
+
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		current.methodCalls[UNIFORM1UIV]++;
+		gl30.glUniform1uiv(location, count, value);
+	}
+
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		current.methodCalls[UNIFORM3UIV]++;
+		gl30.glUniform3uiv(location, count, value);
+	}
+
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		current.methodCalls[UNIFORM4UIV]++;
+		gl30.glUniform4uiv(location, count, value);
+	}
+
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		current.methodCalls[CLEAR_BUFFERIV]++;
+		gl30.glClearBufferiv(buffer, drawbuffer, value);
+	}
+
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		current.methodCalls[CLEAR_BUFFERUIV]++;
+		gl30.glClearBufferuiv(buffer, drawbuffer, value);
+	}
+
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		current.methodCalls[CLEAR_BUFFERFV]++;
+		gl30.glClearBufferfv(buffer, drawbuffer, value);
+	}
+
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		current.methodCalls[CLEAR_BUFFERFI]++;
+		gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+	}
+
+	public String glGetStringi (int name, int index) {
+		current.methodCalls[GET_STRINGI]++;
+		return gl30.glGetStringi(name, index);
+	}
+
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		current.methodCalls[COPY_BUFFER_SUB_DATA]++;
+		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+	}
+
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		current.methodCalls[GET_UNIFORM_INDICES]++;
+		gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+	}
+
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		current.methodCalls[GET_ACTIVE_UNIFORMSIV]++;
+		gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+	}
+
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		current.methodCalls[GET_UNIFORM_BLOCK_INDEX]++;
+		return gl30.glGetUniformBlockIndex(program, uniformBlockName);
+	}
+
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		current.methodCalls[GET_ACTIVE_UNIFORM_BLOCKIV]++;
+		gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+	}
+
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		current.methodCalls[GET_ACTIVE_UNIFORM_BLOCK_NAME]++;
+		gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+	}
+
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		current.methodCalls[GET_ACTIVE_UNIFORM_BLOCK_NAME]++;
+		return gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+	}
+
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		current.methodCalls[UNIFORM_BLOCK_BINDING]++;
+		gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+	}
+
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		current.methodCalls[DRAW_ARRAYS_INSTANCED]++;
+		current.drawCalls++;
+		current.vertexCount += count * instanceCount;
+		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+	}
+
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		current.methodCalls[DRAW_ELEMENTS_INSTANCED]++;
+		current.drawCalls++;
+		current.vertexCount += count * instanceCount;
+		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+	}
+
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		current.methodCalls[GET_INTEGER64V]++;
+		gl30.glGetInteger64v(pname, params);
+	}
+
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		current.methodCalls[GET_BUFFER_PARAMETERI64V]++;
+		gl30.glGetBufferParameteri64v(target, pname, params);
+	}
+
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		current.methodCalls[GEN_SAMPLERS]++;
+		gl30.glGenSamplers(count, samplers, offset);
+	}
+
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		current.methodCalls[GEN_SAMPLERS]++;
+		gl30.glGenSamplers(count, samplers);
+	}
+
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		current.methodCalls[DELETE_SAMPLERS]++;
+		gl30.glDeleteSamplers(count, samplers, offset);
+	}
+
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		current.methodCalls[DELETE_SAMPLERS]++;
+		gl30.glDeleteSamplers(count, samplers);
+	}
+
+	public boolean glIsSampler (int sampler) {
+		current.methodCalls[IS_SAMPLER]++;
+		return gl30.glIsSampler(sampler);
+	}
+
+	public void glBindSampler (int unit, int sampler) {
+		current.methodCalls[BIND_SAMPLER]++;
+		gl30.glBindSampler(unit, sampler);
+	}
+
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		current.methodCalls[SAMPLER_PARAMETERI]++;
+		gl30.glSamplerParameteri(sampler, pname, param);
+	}
+
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		current.methodCalls[SAMPLER_PARAMETERIV]++;
+		gl30.glSamplerParameteriv(sampler, pname, param);
+	}
+
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		current.methodCalls[SAMPLER_PARAMETERF]++;
+		gl30.glSamplerParameterf(sampler, pname, param);
+	}
+
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		current.methodCalls[SAMPLER_PARAMETERFV]++;
+		gl30.glSamplerParameterfv(sampler, pname, param);
+	}
+
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		current.methodCalls[GET_SAMPLER_PARAMETERIV]++;
+		gl30.glGetSamplerParameteriv(sampler, pname, params);
+	}
+
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		current.methodCalls[GET_SAMPLER_PARAMETERFV]++;
+		gl30.glGetSamplerParameterfv(sampler, pname, params);
+	}
+
+	public void glVertexAttribDivisor (int index, int divisor) {
+		current.methodCalls[VERTEX_ATTRIB_DIVISOR]++;
+		gl30.glVertexAttribDivisor(index, divisor);
+	}
+
+	public void glBindTransformFeedback (int target, int id) {
+		current.methodCalls[BIND_TRANSFORM_FEEDBACK]++;
+		gl30.glBindTransformFeedback(target, id);
+	}
+
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		current.methodCalls[DELETE_TRANSFORM_FEEDBACKS]++;
+		gl30.glDeleteTransformFeedbacks(n, ids, offset);
+	}
+
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		current.methodCalls[DELETE_TRANSFORM_FEEDBACKS]++;
+		gl30.glDeleteTransformFeedbacks(n, ids);
+	}
+
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		current.methodCalls[GEN_TRANSFORM_FEEDBACKS]++;
+		gl30.glGenTransformFeedbacks(n, ids, offset);
+	}
+
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		current.methodCalls[GEN_TRANSFORM_FEEDBACKS]++;
+		gl30.glGenTransformFeedbacks(n, ids);
+	}
+
+	public boolean glIsTransformFeedback (int id) {
+		current.methodCalls[IS_TRANSFORM_FEEDBACK]++;
+		return gl30.glIsTransformFeedback(id);
+	}
+
+	public void glPauseTransformFeedback () {
+		current.methodCalls[PAUSE_TRANSFORM_FEEDBACK]++;
+		gl30.glPauseTransformFeedback();
+	}
+
+	public void glResumeTransformFeedback () {
+		current.methodCalls[RESUME_TRANSFORM_FEEDBACK]++;
+		gl30.glResumeTransformFeedback();
+	}
+
+	public void glProgramParameteri (int program, int pname, int value) {
+		current.methodCalls[PROGRAM_PARAMETERI]++;
+		gl30.glProgramParameteri(program, pname, value);
+	}
+
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		current.methodCalls[INVALIDATE_FRAMEBUFFER]++;
+		gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+	}
+
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width,
+		int height) {
+		current.methodCalls[INVALIDATE_SUB_FRAMEBUFFER]++;
+		gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+	}
+
+	public boolean supportsMultiDraw () {
+		return multiDraw != null && multiDraw.supportsMultiDraw();
+	}
+
+	public boolean supportsDrawIndirect () {
+		return multiDraw != null && multiDraw.supportsDrawIndirect();
+	}
+
+	public boolean supportsMultiDrawIndirect () {
+		return multiDraw != null && multiDraw.supportsMultiDrawIndirect();
+	}
+
+	// A multi draw counts as one draw call. The vertices of indirect draws are on the GPU and not counted.
+
+	public void glMultiDrawArrays (int mode, IntBuffer first, IntBuffer count) {
+		current.methodCalls[MULTI_DRAW_ARRAYS]++;
+		current.drawCalls++;
+		for (int i = count.position(), n = count.limit(); i < n; i++)
+			current.vertexCount += count.get(i);
+		multiDraw.glMultiDrawArrays(mode, first, count);
+	}
+
+	public void glMultiDrawElements (int mode, IntBuffer count, int type, PointerBuffer indices) {
+		current.methodCalls[MULTI_DRAW_ELEMENTS]++;
+		current.drawCalls++;
+		for (int i = count.position(), n = count.limit(); i < n; i++)
+			current.vertexCount += count.get(i);
+		multiDraw.glMultiDrawElements(mode, count, type, indices);
+	}
+
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		current.methodCalls[DRAW_ARRAYS_INDIRECT]++;
+		current.drawCalls++;
+		multiDraw.glDrawArraysIndirect(mode, indirect);
+	}
+
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		current.methodCalls[DRAW_ELEMENTS_INDIRECT]++;
+		current.drawCalls++;
+		multiDraw.glDrawElementsIndirect(mode, type, indirect);
+	}
+
+	public void glMultiDrawArraysIndirect (int mode, long indirect, int drawCount, int stride) {
+		current.methodCalls[MULTI_DRAW_ARRAYS_INDIRECT]++;
+		current.drawCalls++;
+		multiDraw.glMultiDrawArraysIndirect(mode, indirect, drawCount, stride);
+	}
+
+	public void glMultiDrawElementsIndirect (int mode, int type, long indirect, int drawCount, int stride) {
+		current.methodCalls[MULTI_DRAW_ELEMENTS_INDIRECT]++;
+		current.drawCalls++;
+		multiDraw.glMultiDrawElementsIndirect(mode, type, indirect, drawCount, stride);
+	}
+}
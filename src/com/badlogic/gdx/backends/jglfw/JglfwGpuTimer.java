@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL33;
+import org.lwjgl.opengl.GLCapabilities;
+
+/** Measures GPU time per frame and per named scope with GL_TIMESTAMP queries. Each frame's queries go into a ring of
+ * {@link #getLatency()} slots and are read back once the GPU has finished them, usually 2 or 3 frames later, so the timer never
+ * stalls the pipeline. If a slot is still in flight when it comes around again, that frame's results are dropped.
+ * <p>
+ * {@link #begin(String)} and {@link #end()} must be called on the thread that renders, between the frame boundaries set by
+ * {@link JglfwApplication}. Scopes may nest. Results describe the most recent completed frame and are updated at the start of
+ * each frame, on the rendering thread. The timer does nothing without OpenGL 3.3 or ARB_timer_query. */
+public class JglfwGpuTimer {
+	private final Frame[] frames;
+	private Frame current;
+	private long nextFrameId, nextResultId;
+	private boolean initialized, supported, enabled = true;
+	private int[] stack = new int[8];
+	private int depth;
+
+	private final ObjectIntMap<String> scopeIds = new ObjectIntMap();
+	private final Array<String> scopeNames = new Array();
+	private long[] scopeNanos = new long[8];
+	private int[] scopeCalls = new int[8];
+	private long resultId = -1, gpuFrameNanos, cpuFrameNanos;
+	private int droppedFrames;
+
+	/** @param latency Number of frames that may be in flight before results are dropped, at least 2. */
+	public JglfwGpuTimer (int latency) {
+		if (latency < 2) throw new IllegalArgumentException("latency must be >= 2: " + latency);
+		frames = new Frame[latency];
+		for (int i = 0; i < latency; i++)
+			frames[i] = new Frame();
+	}
+
+	/** Collects finished frames and starts timing a new one. Called on the rendering thread before the listener renders. */
+	void frameStart () {
+		if (!initialized) {
+			initialized = true;
+			GLCapabilities caps = GL.getCapabilities();
+			supported = caps.OpenGL33 || caps.GL_ARB_timer_query;
+		}
+		current = null;
+		depth = 0;
+		if (!supported) return;
+		collect();
+		if (!enabled) return;
+
+		Frame frame = frames[(int)(nextFrameId % frames.length)];
+		if (frame.pending) droppedFrames++;
+		frame.id = nextFrameId++;
+		frame.pending = true;
+		frame.ended = false;
+		frame.queryCount = 0;
+		frame.scopeCount = 0;
+		frame.cpuStart = System.nanoTime();
+		timestamp(frame);
+		current = frame;
+	}
+
+	/** Ends timing the current frame, closing any scopes left open. Called on the rendering thread before swapping buffers. */
+	void frameEnd () {
+		Frame frame = current;
+		if (frame == null) return;
+		while (depth > 0)
+			end();
+		frame.endQuery = timestamp(frame);
+		frame.cpuNanos = System.nanoTime() - frame.cpuStart;
+		frame.ended = true;
+		current = null;
+	}
+
+	/** Starts timing a scope. Scopes with the same name in one frame are summed. */
+	public void begin (String name) {
+		Frame frame = current;
+		if (frame == null) return;
+		int scope = scopeIds.get(name, -1);
+		if (scope == -1) {
+			scope = scopeNames.size;
+			scopeIds.put(name, scope);
+			scopeNames.add(name);
+			if (scope == scopeNanos.length) {
+				long[] newNanos = new long[scope << 1];
+				System.arraycopy(scopeNanos, 0, newNanos, 0, scope);
+				scopeNanos = newNanos;
+				int[] newCalls = new int[scope << 1];
+				System.arraycopy(scopeCalls, 0, newCalls, 0, scope);
+				scopeCalls = newCalls;
+			}
+		}
+		int record = frame.scopeCount++;
+		if (record == frame.scopes.length) frame.growScopes();
+		frame.scopes[record] = scope;
+		frame.scopeStart[record] = timestamp(frame);
+		if (depth == stack.length) {
+			int[] newStack = new int[depth << 1];
+			System.arraycopy(stack, 0, newStack, 0, depth);
+			stack = newStack;
+		}
+		stack[depth++] = record;
+	}
+
+	/** Ends the most recently begun scope. */
+	public void end () {
+		Frame frame = current;
+		if (frame == null) return;
+		if (depth == 0) throw new GdxRuntimeException("end called without begin.");
+		frame.scopeEnd[stack[--depth]] = timestamp(frame);
+	}
+
+	private int timestamp (Frame frame) {
+		int index = frame.queryCount++;
+		if (index == frame.allocated) frame.allocateQuery();
+		GL33.glQueryCounter(frame.queries[index], GL33.GL_TIMESTAMP);
+		return index;
+	}
+
+	/** Reads back every finished frame in order, stopping at the first one the GPU has not completed. */
+	private void collect () {
+		while (nextResultId < nextFrameId) {
+			Frame frame = frames[(int)(nextResultId % frames.length)];
+			if (frame.id != nextResultId || !frame.pending) {
+				nextResultId++; // Dropped or already read.
+				continue;
+			}
+			if (!frame.ended) {
+				frame.pending = false;
+				nextResultId++;
+				continue;
+			}
+			if (!frame.isAvailable()) break;
+			read(frame);
+			frame.pending = false;
+			nextResultId++;
+		}
+	}
+
+	private void read (Frame frame) {
+		int[] queries = frame.queries;
+		gpuFrameNanos = result(queries[frame.endQuery]) - result(queries[0]);
+		cpuFrameNanos = frame.cpuNanos;
+		resultId = frame.id;
+		int scopeCount = scopeNames.size;
+		for (int i = 0; i < scopeCount; i++) {
+			scopeNanos[i] = 0;
+			scopeCalls[i] = 0;
+		}
+		for (int i = 0, n = frame.scopeCount; i < n; i++) {
+			int scope = frame.scopes[i];
+			scopeNanos[scope] += result(queries[frame.scopeEnd[i]]) - result(queries[frame.scopeStart[i]]);
+			scopeCalls[scope]++;
+		}
+	}
+
+	static private long result (int query) {
+		return GL33.glGetQueryObjectui64(query, GL15.GL_QUERY_RESULT);
+	}
+
+	/** Returns the GPU time of the most recent completed frame, in milliseconds. */
+	public float getGpuFrameMillis () {
+		return gpuFrameNanos / 1000000f;
+	}
+
+	/** Returns the CPU time spent rendering the same frame as {@link #getGpuFrameMillis()}, in milliseconds. */
+	public float getCpuFrameMillis () {
+		return cpuFrameNanos / 1000000f;
+	}
+
+	/** Returns the GPU time of the scope in the most recent completed frame, in milliseconds, or 0 if it wasn't used. */
+	public float getScopeMillis (String name) {
+		int scope = scopeIds.get(name, -1);
+		if (scope == -1) return 0;
+		return scopeNanos[scope] / 1000000f;
+	}
+
+	/** Returns the GPU time of the scope at the given index, in milliseconds.
+	 * @see #getScopeName(int) */
+	public float getScopeMillis (int index) {
+		return scopeNanos[index] / 1000000f;
+	}
+
+	/** Returns how many times the scope at the given index was used in the most recent completed frame. */
+	public int getScopeCalls (int index) {
+		return scopeCalls[index];
+	}
+
+	public String getScopeName (int index) {
+		return scopeNames.get(index);
+	}
+
+	/** Returns the number of distinct scope names seen so far. */
+	public int getScopeCount () {
+		return scopeNames.size;
+	}
+
+	/** Returns the id of the frame the results describe, counted from the first timed frame, or -1 if none has completed. */
+	public long getResultFrameId () {
+		return resultId;
+	}
+
+	/** Returns the number of frames whose results were dropped because the GPU fell more than {@link #getLatency()} frames
+	 * behind. */
+	public int getDroppedFrames () {
+		return droppedFrames;
+	}
+
+	public int getLatency () {
+		return frames.length;
+	}
+
+	/** Returns false if the GL context lacks timer queries. Only meaningful once a frame has been rendered. */
+	public boolean isSupported () {
+		return supported;
+	}
+
+	public boolean isEnabled () {
+		return enabled;
+	}
+
+	/** When disabled no queries are issued, {@link #begin(String)} and {@link #end()} do nothing. */
+	public void setEnabled (boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	static private class Frame {
+		long id;
+		boolean pending, ended;
+		long cpuStart, cpuNanos;
+		int[] queries = new int[16];
+		int allocated, queryCount, endQuery;
+		int[] scopes = new int[8], scopeStart = new int[8], scopeEnd = new int[8];
+		int scopeCount;
+
+		void allocateQuery () {
+			if (allocated == queries.length) {
+				int[] newQueries = new int[allocated << 1];
+				System.arraycopy(queries, 0, newQueries, 0, allocated);
+				queries = newQueries;
+			}
+			queries[allocated++] = GL15.glGenQueries();
+		}
+
+		void growScopes () {
+			int size = scopes.length;
+			int[] newScopes = new int[size << 1], newStart = new int[size << 1], newEnd = new int[size << 1];
+			System.arraycopy(scopes, 0, newScopes, 0, size);
+			System.arraycopy(scopeStart, 0, newStart, 0, size);
+			System.arraycopy(scopeEnd, 0, newEnd, 0, size);
+			scopes = newScopes;
+			scopeStart = newStart;
+			scopeEnd = newEnd;
+		}
+
+		/** Returns true if every query of the frame has a result, without waiting. */
+		boolean isAvailable () {
+			for (int i = queryCount - 1; i >= 0; i--)
+				if (GL15.glGetQueryObjecti(queries[i], GL15.GL_QUERY_RESULT_AVAILABLE) == 0) return false;
+			return true;
+		}
+	}
+}
@@ -17,21 +17,22 @@
 package com.badlogic.gdx.backends.jglfw;
 
 import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Cursor;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import org.lwjgl.BufferUtils;
-import org.lwjgl.PointerBuffer;
-import org.lwjgl.glfw.GLFWVidMode;
 import org.lwjgl.opengl.GL;
 import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GLCapabilities;
 
+import java.io.File;
 import java.nio.IntBuffer;
 
 import static org.lwjgl.glfw.GLFW.*;
@@ -50,14 +51,16 @@ public class JglfwGraphics implements Graphics {
 	long window;
 	private boolean fullscreen;
 	private long fullscreenMonitor;
+	private int windowedX = -1, windowedY = -1;
+	private volatile JglfwMonitor monitor;
 	private String title;
-	private boolean resizable, undecorated;
+	private boolean resizable, undecorated, debugContext;
 	private BufferFormat bufferFormat;
-	private boolean vSync;
+	private boolean vSync, adaptiveVSync;
 	private int x, y, width, height;
 	private boolean visible;
 	private Color initialBackgroundColor;
-	private volatile boolean isContinuous = true, renderRequested;
+	private volatile boolean isContinuous = true, renderRequested, waitingForEvents;
 	volatile boolean foreground, minimized;
 	private IntBuffer intBuffer = BufferUtils.createIntBuffer(1);
 	private IntBuffer intBuffer2 = BufferUtils.createIntBuffer(1);
@@ -69,28 +72,50 @@ public class JglfwGraphics implements Graphics {
 
 	boolean usingGL30;
 
-	private JglfwGL20 gl20;
-	private JglfwGL30 gl30;
+	private GL20 gl20;
+	private GL30 gl30;
+	private GLStateCache stateCache;
+	private JglfwGLProfiler glProfiler;
+	private JglfwGpuTimer gpuTimer;
+	private JglfwFrameCapture frameCapture;
+	private JglfwGLLoader glLoader;
+	private JglfwDynamicResolution dynamicResolution;
+	private JglfwFrameLatency frameLatency;
+	private JglfwGLDebug glDebug;
+	private long shareWindow;
+	private GLCapabilities capabilities;
 	double scale;
 
 	public JglfwGraphics (JglfwApplicationConfiguration config) {
+		this(config, 0);
+	}
+
+	/** Creates graphics for a {@link JglfwWindow}, whose context shares objects with the given window's. Leaves the new context
+	 * current. Profiling, capture and loading features are only available on the application's graphics.
+	 * @param shareWindow The application's window, or 0 to create the application's graphics. */
+	JglfwGraphics (JglfwApplicationConfiguration config, long shareWindow) {
+		this.shareWindow = shareWindow;
+		boolean main = shareWindow == 0;
+
 		// Store values from config.
 		bufferFormat = new BufferFormat(config.r, config.g, config.b, config.a, config.depth, config.stencil, config.samples, false);
 		title = config.title;
 		resizable = config.resizable;
 		undecorated = config.undecorated;
+		debugContext = config.glDebug;
 		x = config.x;
 		y = config.y;
-		vSync = config.vSync;
+		// Only the last window swapped in a frame waits for vsync, see JglfwApplication#renderWindows.
+		vSync = main && config.vSync;
+		adaptiveVSync = config.adaptiveVSync;
 
 		// FIXME: This needs smarts
 		usingGL30 = config.useGL30;
 
 		initialBackgroundColor = config.initialBackgroundColor;
 		if (config.fullscreenMonitorIndex != -1) { // Use monitor specified in config if it is valid.
-			PointerBuffer monitors = glfwGetMonitors();
-			long count = monitors.get();
-			if (config.fullscreenMonitorIndex < count) fullscreenMonitor = monitors.get(config.fullscreenMonitorIndex + 1);
+			JglfwMonitor[] monitors = JglfwMonitor.getAll();
+			if (config.fullscreenMonitorIndex < monitors.length) fullscreenMonitor = monitors[config.fullscreenMonitorIndex].handle;
 		}
 
 		// Create window.
@@ -99,7 +124,7 @@ public class JglfwGraphics implements Graphics {
 					+ config.fullscreen);
 		}
 
-		GL.createCapabilities();
+		capabilities = GL.createCapabilities();
 
 		// Create GL.
 		String version = GL11.glGetString(GL20.GL_VERSION);
@@ -121,6 +146,35 @@ public class JglfwGraphics implements Graphics {
 		} else {
 			gl20 = new JglfwGL20();
 		}
+		if (config.glStateCache) {
+			stateCache = new GLStateCache();
+			((JglfwGL20)gl20).stateCache = stateCache;
+		}
+		if (config.programBinaryCache) {
+			FileHandle directory = new JglfwFileHandle(new File(config.preferencesLocation, "programs"), FileType.External);
+			((JglfwGL20)gl20).programCache = ProgramBinaryCache.create(directory);
+		}
+		if (!main) {
+			if (!config.hidden) show();
+			return;
+		}
+
+		if (config.glDebug) glDebug = new JglfwGLDebug(config.glDebugQueue);
+		if (config.gpuTimer) gpuTimer = new JglfwGpuTimer(config.gpuTimerLatency);
+		if (config.dynamicResolution) {
+			dynamicResolution = new JglfwDynamicResolution(this, config);
+			((JglfwGL20)gl20).dynamicResolution = dynamicResolution;
+		}
+
+		if (config.glProfiler) {
+			glProfiler = new JglfwGLProfiler(gl20, gl30);
+			gl20 = glProfiler;
+			if (gl30 != null) gl30 = glProfiler;
+		}
+
+		if (config.frameCapture) frameCapture = new JglfwFrameCapture(config.frameCaptureLatency, config.frameCaptureQueue);
+		if (config.glLoader) glLoader = new JglfwGLLoader(this);
+		if (config.maxFramesInFlight > 0) frameLatency = new JglfwFrameLatency(config.maxFramesInFlight);
 
 		Gdx.gl = gl20;
 		Gdx.gl20 = gl20;
@@ -129,6 +183,29 @@ public class JglfwGraphics implements Graphics {
 		if (!config.hidden) show();
 	}
 
+	/** Creates graphics without a window or GL context, see {@link HeadlessGraphics}. */
+	JglfwGraphics (JglfwApplicationConfiguration config, GL20 gl20, GL30 gl30) {
+		bufferFormat = new BufferFormat(config.r, config.g, config.b, config.a, config.depth, config.stencil, config.samples, false);
+		title = config.title;
+		x = config.x;
+		y = config.y;
+		vSync = config.vSync;
+		width = config.width;
+		height = config.height;
+		scale = 1;
+		initialBackgroundColor = config.initialBackgroundColor;
+		visible = true;
+		foreground = true;
+
+		this.gl20 = gl20;
+		this.gl30 = gl30;
+		usingGL30 = gl30 != null;
+
+		Gdx.gl = gl20;
+		Gdx.gl20 = gl20;
+		Gdx.gl30 = gl30;
+	}
+
 	private boolean createWindow (int width, int height, boolean fullscreen) {
 		if (fullscreen && fullscreenMonitor == 0) fullscreenMonitor = getWindowMonitor();
 
@@ -142,14 +219,18 @@ public class JglfwGraphics implements Graphics {
 		glfwWindowHint(GLFW_DEPTH_BITS, bufferFormat.depth);
 		glfwWindowHint(GLFW_STENCIL_BITS, bufferFormat.stencil);
 		glfwWindowHint(GLFW_SAMPLES, bufferFormat.samples);
+		glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, debugContext ? 1 : 0);
 
 		boolean mouseCaptured = window != 0 && glfwGetInputMode(window, GLFW_CURSOR) == GLFW_CURSOR_DISABLED;
 
 		long oldWindow = window;
-		long newWindow = glfwCreateWindow(width, height, title, fullscreen ? fullscreenMonitor : 0, oldWindow);
+		long newWindow = glfwCreateWindow(width, height, title, fullscreen ? fullscreenMonitor : 0,
+			oldWindow != 0 ? oldWindow : shareWindow);
 		if (newWindow == 0) return false;
 		if (oldWindow != 0) glfwDestroyWindow(oldWindow);
 		window = newWindow;
+		// Entering or leaving fullscreen may have changed the monitor's mode.
+		if (fullscreen || this.fullscreen) JglfwMonitor.refresh();
 		intBuffer.clear();
 		intBuffer2.clear();
 		glfwGetFramebufferSize(window, intBuffer, intBuffer2);
@@ -174,16 +255,44 @@ public class JglfwGraphics implements Graphics {
 			}
 			glfwSetWindowPos(window, x, y);
 		}
+		updateMonitor();
 
 		if (!mouseCaptured) glfwSetInputMode(window, GLFW_CURSOR, GLFW_CURSOR_NORMAL); // Prevent fullscreen from taking mouse.
 
 		glfwMakeContextCurrent(newWindow);
+		invalidateGLState(); // The new context starts with default state.
+		if (dynamicResolution != null) dynamicResolution.contextChanged();
+		if (glDebug != null) glDebug.install();
 		setVSync(vSync);
 		if (visible) glfwShowWindow(window);
 
 		return true;
 	}
 
+	/** Makes this window's context current on the calling thread. */
+	void makeCurrent () {
+		glfwMakeContextCurrent(window);
+		GL.setCapabilities(capabilities);
+	}
+
+	/** Tells the GL state cache, if enabled with {@link JglfwApplicationConfiguration#glStateCache}, that GL state may have been
+	 * changed without going through {@link #getGL20()}, eg by calling LWJGL directly. */
+	public void invalidateGLState () {
+		if (stateCache != null) stateCache.invalidate();
+	}
+
+	/** Tells the GL state cache that the framebuffer bindings or the scissor test were changed without going through it. */
+	void invalidateFramebufferState () {
+		if (stateCache != null) stateCache.invalidateFramebuffer();
+	}
+
+	/** Returns the texture the GL state cache recorded as bound to the target on the active unit, or -1 if the cache is disabled or
+	 * doesn't know the binding. */
+	int getTextureBinding (int target) {
+		if (stateCache == null) return -1;
+		return stateCache.textureBinding(target);
+	}
+
 	void frameStart (long time) {
 		if (lastTime == -1) lastTime = time;
 		deltaTime = (time - lastTime) / 1000000000.0f;
@@ -199,6 +308,10 @@ public class JglfwGraphics implements Graphics {
 	}
 
 	void sizeChanged (int width, int height) {
+		sizeChanged(width, height, Gdx.app.getApplicationListener());
+	}
+
+	void sizeChanged (int width, int height, ApplicationListener listener) {
 		if (isMac) {
 			glfwShowWindow(window); // This is required to refresh the NSOpenGLContext on OSX!
 		}
@@ -206,8 +319,8 @@ public class JglfwGraphics implements Graphics {
 		height = Math.max(1, height);
 		this.width = width;
 		this.height = height;
-		Gdx.gl.glViewport(0, 0, width, height);
-		ApplicationListener listener = Gdx.app.getApplicationListener();
+		if (dynamicResolution != null) dynamicResolution.sizeChanged(width, height);
+		gl20.glViewport(0, 0, width, height);
 		if (listener != null) listener.resize(width, height);
 		requestRendering();
 	}
@@ -215,6 +328,84 @@ public class JglfwGraphics implements Graphics {
 	void positionChanged (int x, int y) {
 		this.x = x;
 		this.y = y;
+		updateMonitor();
+	}
+
+	/** Takes a new snapshot of the monitors. Called on the main thread when a monitor is connected or disconnected. */
+	void monitorsChanged () {
+		JglfwMonitor.refresh();
+		updateMonitor();
+	}
+
+	/** Finds the fullscreen monitor, or the monitor containing the window's center. */
+	void updateMonitor () {
+		if (fullscreen) {
+			monitor = JglfwMonitor.get(glfwGetWindowMonitor(window));
+			return;
+		}
+		JglfwMonitor[] monitors = JglfwMonitor.getAll();
+		int centerX = x + (int)(width / scale) / 2, centerY = y + (int)(height / scale) / 2;
+		for (int i = 0; i < monitors.length; i++) {
+			JglfwMonitor monitor = monitors[i];
+			DisplayMode mode = monitor.getDisplayMode();
+			if (centerX >= monitor.getX() && centerX < monitor.getX() + mode.width && centerY >= monitor.getY()
+				&& centerY < monitor.getY() + mode.height) {
+				this.monitor = monitor;
+				return;
+			}
+		}
+		monitor = monitors.length > 0 ? monitors[0] : null;
+	}
+
+	/** Returns the monitor the window is fullscreen on, else the monitor containing the window's center, or null if no monitor
+	 * is connected. */
+	public JglfwMonitor getMonitor () {
+		return monitor;
+	}
+
+	/** Returns the connected monitors, the primary monitor first. */
+	public JglfwMonitor[] getMonitors () {
+		return JglfwMonitor.getAll().clone();
+	}
+
+	/** Returns the GL profiler, or null unless {@link JglfwApplicationConfiguration#glProfiler} was true. */
+	public JglfwGLProfiler getGLProfiler () {
+		return glProfiler;
+	}
+
+	/** Returns the GPU timer, or null unless {@link JglfwApplicationConfiguration#gpuTimer} was true. */
+	public JglfwGpuTimer getGpuTimer () {
+		return gpuTimer;
+	}
+
+	/** Returns the frame capture, or null unless {@link JglfwApplicationConfiguration#frameCapture} was true. */
+	public JglfwFrameCapture getFrameCapture () {
+		return frameCapture;
+	}
+
+	/** Returns the background loader, or null unless {@link JglfwApplicationConfiguration#glLoader} was true. */
+	public JglfwGLLoader getGLLoader () {
+		return glLoader;
+	}
+
+	/** Returns the debug output, or null unless {@link JglfwApplicationConfiguration#glDebug} was true. */
+	public JglfwGLDebug getGLDebug () {
+		return glDebug;
+	}
+
+	/** Returns the frames in flight limiter, or null unless {@link JglfwApplicationConfiguration#maxFramesInFlight} was > 0. */
+	public JglfwFrameLatency getFrameLatency () {
+		return frameLatency;
+	}
+
+	/** Returns the dynamic resolution, or null unless {@link JglfwApplicationConfiguration#dynamicResolution} was true. */
+	public JglfwDynamicResolution getDynamicResolution () {
+		return dynamicResolution;
+	}
+
+	/** Returns the fraction of the window size the application renders at, 1 unless dynamic resolution is enabled. */
+	public float getResolutionScale () {
+		return dynamicResolution != null ? dynamicResolution.getScale() : 1;
 	}
 
 	public boolean isGL20Available () {
@@ -254,56 +445,23 @@ public class JglfwGraphics implements Graphics {
 	}
 
 	public float getPpiX () {
-		intBuffer.clear();
-
-		glfwGetMonitorPhysicalSize(getWindowMonitor(), intBuffer, null);
-		final GLFWVidMode vidMode = glfwGetVideoMode(getWindowMonitor());
-		int pW = intBuffer.get();
-		return vidMode.width() / (pW * 0.03937f);
+		return monitor.getPpiX();
 	}
 
 	public float getPpiY () {
-		intBuffer.clear();
-
-		glfwGetMonitorPhysicalSize(getWindowMonitor(), null, intBuffer);
-		final GLFWVidMode vidMode = glfwGetVideoMode(getWindowMonitor());
-		int pH = intBuffer.get();
-		return vidMode.height() / (pH * 0.03937f);
+		return monitor.getPpiY();
 	}
 
 	public float getPpcX () {
-		intBuffer.clear();
-
-		glfwGetMonitorPhysicalSize(getWindowMonitor(), intBuffer, null);
-		final GLFWVidMode vidMode = glfwGetVideoMode(getWindowMonitor());
-		int pW = intBuffer.get();
-		return vidMode.width() / (pW / 10);
+		return monitor.getPpcX();
 	}
 
 	public float getPpcY () {
-		intBuffer.clear();
-
-		glfwGetMonitorPhysicalSize(getWindowMonitor(), null, intBuffer);
-		final GLFWVidMode vidMode = glfwGetVideoMode(getWindowMonitor());
-		int pH = intBuffer.get();
-		return vidMode.height() / (pH / 10);
+		return monitor.getPpcY();
 	}
 
 	public float getDensity () {
-		intBuffer.clear();
-		intBuffer2.clear();
-
-		glfwGetMonitorPhysicalSize(getWindowMonitor(), intBuffer, intBuffer2);
-		float mmWidth = intBuffer.get();
-		float mmHeight = intBuffer2.get();
-		float inches = (float) Math.sqrt(mmWidth * mmWidth + mmHeight * mmHeight) * 0.03937f; // mm to inches
-		final GLFWVidMode vidMode = glfwGetVideoMode(getWindowMonitor());
-		float pixelWidth = vidMode.width();
-		float pixelHeight = vidMode.height();
-		float pixels = (float) Math.sqrt(pixelWidth * pixelWidth + pixelHeight * pixelHeight);
-		float diagonalPpi = pixels / inches;
-
-		return diagonalPpi / 160f;
+		return monitor.getDensity();
 	}
 
 	public boolean supportsDisplayModeChange () {
@@ -311,36 +469,28 @@ public class JglfwGraphics implements Graphics {
 	}
 
 	private long getWindowMonitor () {
-		if (window != 0) {
-			long monitor = glfwGetWindowMonitor(window);
-			if (monitor != 0) return monitor;
-		}
-		return glfwGetPrimaryMonitor();
+		return monitor != null ? monitor.handle : glfwGetPrimaryMonitor();
 	}
 
 	public DisplayMode[] getDisplayModes () {
-		Array<DisplayMode> modes = new Array<DisplayMode>();
-		GLFWVidMode.Buffer vidModes = glfwGetVideoModes(getWindowMonitor());
-		for (int j = 0; j < vidModes.capacity(); j++) {
-			vidModes.position(j);
-			modes.add(new JglfwDisplayMode(
-					vidModes.width(),
-					vidModes.height(),
-					vidModes.refreshRate(),
-					vidModes.redBits() + vidModes.greenBits() + vidModes.blueBits()
-			));
-		}
-		return modes.toArray(DisplayMode.class);
+		return monitor.getDisplayModes().clone();
 	}
 
 	public DisplayMode getDesktopDisplayMode () {
-		GLFWVidMode mode = glfwGetVideoMode(getWindowMonitor());
-		return new JglfwDisplayMode(mode.width(), mode.height(), mode.refreshRate(), mode.redBits() + mode.greenBits() + mode.blueBits());
+		if (monitor == null) updateMonitor(); // Centering the window before it's created.
+		return monitor.getDisplayMode();
 	}
 
+	/** Changes the mode in place, keeping the context, unless the bits per pixel differ from the window's. Then the window is
+	 * recreated, with a new context that only shares objects with the old one. */
 	public boolean setDisplayMode (DisplayMode displayMode) {
+		int red = displayMode.bitsPerPixel == 16 ? 5 : 8;
+		if (red == bufferFormat.r) {
+			switchMode(displayMode.width, displayMode.height, displayMode.refreshRate, fullscreen);
+			return true;
+		}
 		bufferFormat = new BufferFormat( //
-				displayMode.bitsPerPixel == 16 ? 5 : 8, //
+				red, //
 				displayMode.bitsPerPixel == 16 ? 6 : 8, //
 				displayMode.bitsPerPixel == 16 ? 6 : 8, //
 				bufferFormat.a, bufferFormat.depth, bufferFormat.stencil, bufferFormat.samples, false);
@@ -349,17 +499,46 @@ public class JglfwGraphics implements Graphics {
 		return success;
 	}
 
+	/** Changes the mode in place, keeping the context, so GL objects and state survive and the switch is immediate. */
 	public boolean setDisplayMode (int width, int height, boolean fullscreen) {
 		if (fullscreen || this.fullscreen) {
-			boolean success = createWindow(width, height, fullscreen);
-			if (success && fullscreen) sizeChanged(width, height);
-			return success;
+			switchMode(width, height, GLFW_DONT_CARE, fullscreen);
+			return true;
 		}
 
 		glfwSetWindowSize(window, width, height);
 		return true;
 	}
 
+	/** Moves the window onto or off a monitor with glfwSetWindowMonitor. */
+	private void switchMode (int width, int height, int refreshRate, boolean fullscreen) {
+		if (fullscreen) {
+			if (!this.fullscreen) {
+				windowedX = x;
+				windowedY = y;
+			}
+			if (fullscreenMonitor == 0) fullscreenMonitor = getWindowMonitor();
+			glfwSetWindowMonitor(window, fullscreenMonitor, 0, 0, width, height, refreshRate);
+		} else {
+			if (this.fullscreen) {
+				if (windowedX == -1) { // Started in fullscreen, center on the monitor.
+					DisplayMode mode = getDesktopDisplayMode();
+					windowedX = monitor.getX() + (mode.width - width) / 2;
+					windowedY = monitor.getY() + (mode.height - height) / 2;
+				}
+				x = windowedX;
+				y = windowedY;
+			}
+			glfwSetWindowMonitor(window, 0, x, y, width, height, GLFW_DONT_CARE);
+		}
+		boolean wasFullscreen = this.fullscreen;
+		this.fullscreen = fullscreen;
+		// The monitor's mode changed when entering or leaving fullscreen, or between fullscreen modes.
+		if (fullscreen || wasFullscreen) JglfwMonitor.refresh();
+		updateMonitor();
+		// The size callbacks deliver the resize on the GL thread.
+	}
+
 	public void setTitle (String title) {
 		if (title == null) title = "";
 		glfwSetWindowTitle(window, title);
@@ -368,7 +547,30 @@ public class JglfwGraphics implements Graphics {
 
 	public void setVSync (boolean vsync) {
 		this.vSync = vsync;
-		glfwSwapInterval(vsync ? 1 : 0);
+		glfwSwapInterval(getSwapInterval());
+	}
+
+	/** Sets whether a frame that misses the vertical blank is swapped immediately, see
+	 * {@link JglfwApplicationConfiguration#adaptiveVSync}. Ignored if {@link #isAdaptiveVSyncSupported()} is false. Must be
+	 * called on the thread that renders. */
+	public void setAdaptiveVSync (boolean adaptiveVSync) {
+		this.adaptiveVSync = adaptiveVSync;
+		glfwSwapInterval(getSwapInterval());
+	}
+
+	public boolean isAdaptiveVSync () {
+		return adaptiveVSync;
+	}
+
+	/** Returns true if the driver supports swapping late frames immediately. Must be called on the thread that renders. */
+	public boolean isAdaptiveVSyncSupported () {
+		return supportsExtension("WGL_EXT_swap_control_tear") || supportsExtension("GLX_EXT_swap_control_tear");
+	}
+
+	/** Returns the swap interval in use: 0 without vsync, 1 with vsync, -1 with adaptive vsync. */
+	public int getSwapInterval () {
+		if (!vSync) return 0;
+		return adaptiveVSync && isAdaptiveVSyncSupported() ? -1 : 1;
 	}
 
 	public BufferFormat getBufferFormat () {
@@ -389,6 +591,7 @@ public class JglfwGraphics implements Graphics {
 
 	public void requestRendering () {
 		renderRequested = true;
+		if (waitingForEvents) glfwPostEmptyEvent(); // Wake up the main loop.
 	}
 
 	public boolean isFullscreen () {
@@ -422,8 +625,8 @@ public class JglfwGraphics implements Graphics {
 		visible = true;
 		glfwShowWindow(window);
 
-		Gdx.gl.glClearColor(initialBackgroundColor.r, initialBackgroundColor.g, initialBackgroundColor.b, initialBackgroundColor.a);
-		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		gl20.glClearColor(initialBackgroundColor.r, initialBackgroundColor.g, initialBackgroundColor.b, initialBackgroundColor.a);
+		gl20.glClear(GL20.GL_COLOR_BUFFER_BIT);
 		glfwSwapBuffers(window);
 	}
 
@@ -447,6 +650,25 @@ public class JglfwGraphics implements Graphics {
 		glfwRestoreWindow(window);
 	}
 
+	/** Blocks the calling (main) thread until an event arrives, {@link #requestRendering()} is called from any thread, or the
+	 * timeout expires. Returns immediately if rendering was already requested.
+	 * @param timeout Seconds to wait, or <= 0 to wait for an event indefinitely. */
+	void waitEvents (double timeout) {
+		waitingForEvents = true;
+		try {
+			if (renderRequested || isContinuous) {
+				glfwPollEvents();
+				return;
+			}
+			if (timeout > 0)
+				glfwWaitEventsTimeout(timeout);
+			else
+				glfwWaitEvents();
+		} finally {
+			waitingForEvents = false;
+		}
+	}
+
 	boolean shouldRender () {
 		try {
 			return renderRequested || isContinuous;
@@ -35,6 +35,7 @@ import static org.lwjgl.glfw.GLFW.*;
  * @author Edu Garcia (arcnor) */
 public class JglfwInput implements Input {
 	final JglfwApplication app;
+	final JglfwGraphics graphics;
 	// We need to keep a reference to this so it never gets GC'd
 	private final GlfwInputProcessor glfwInputProcessor;
 	InputProcessor processor;
@@ -47,7 +48,13 @@ public class JglfwInput implements Input {
 	private final DoubleBuffer doubleBuf = BufferUtils.createDoubleBuffer(1);
 
 	public JglfwInput (final JglfwApplication app) {
+		this(app, app.graphics);
+	}
+
+	/** Creates input for the window of the given graphics. Events of every window are polled by the application's input. */
+	JglfwInput (final JglfwApplication app, JglfwGraphics graphics) {
 		this.app = app;
+		this.graphics = graphics;
 
 		InputProcessor inputProcessor = new InputProcessor() {
 			private int mouseX, mouseY;
@@ -106,10 +113,24 @@ public class JglfwInput implements Input {
 			}
 		};
 
-		glfwInputProcessor = new GlfwInputProcessor(app.graphics.window, app.graphics, inputProcessor);
+		// Headless applications have no window to receive input from.
+		glfwInputProcessor = graphics.window != 0 ? new GlfwInputProcessor(graphics.window, graphics, inputProcessor)
+			: null;
 	}
 
 	public void update () {
+		resetFrameState();
+		if (graphics.window != 0) glfwPollEvents(); // Use GLFW main loop to process events.
+	}
+
+	/** Like {@link #update()}, but blocks until an event arrives, rendering is requested or the timeout expires.
+	 * @see JglfwApplicationConfiguration#idleWaitEvents */
+	void waitEvents (double timeout) {
+		resetFrameState();
+		app.graphics.waitEvents(timeout);
+	}
+
+	void resetFrameState () {
 		deltaX = 0;
 		deltaY = 0;
 		justTouched = false;
@@ -121,7 +142,6 @@ public class JglfwInput implements Input {
 		}
 
 		currentEventTime = System.nanoTime();
-		glfwPollEvents(); // Use GLFW main loop to process events.
 	}
 
 	public float getAccelerometerX () {
@@ -137,8 +157,9 @@ public class JglfwInput implements Input {
 	}
 
 	public int getX () {
+		if (graphics.window == 0) return 0;
 		doubleBuf.clear();
-		glfwGetCursorPos(app.graphics.window, doubleBuf, null);
+		glfwGetCursorPos(graphics.window, doubleBuf, null);
 		return (int) doubleBuf.get();
 	}
 
@@ -147,8 +168,9 @@ public class JglfwInput implements Input {
 	}
 
 	public int getY () {
+		if (graphics.window == 0) return 0;
 		doubleBuf.clear();
-		glfwGetCursorPos(app.graphics.window, null, doubleBuf);
+		glfwGetCursorPos(graphics.window, null, doubleBuf);
 		return (int) doubleBuf.get();
 	}
 
@@ -173,8 +195,9 @@ public class JglfwInput implements Input {
 	}
 
 	public boolean isTouched () {
-		return glfwGetMouseButton(app.graphics.window, 0) == GLFW_PRESS || glfwGetMouseButton(app.graphics.window, 1) == GLFW_PRESS
-				|| glfwGetMouseButton(app.graphics.window, 2) == GLFW_PRESS;
+		if (graphics.window == 0) return false;
+		return glfwGetMouseButton(graphics.window, 0) == GLFW_PRESS || glfwGetMouseButton(graphics.window, 1) == GLFW_PRESS
+				|| glfwGetMouseButton(graphics.window, 2) == GLFW_PRESS;
 	}
 
 	public boolean isTouched (int pointer) {
@@ -186,14 +209,16 @@ public class JglfwInput implements Input {
 	}
 
 	public boolean isButtonPressed (int button) {
-		return glfwGetMouseButton(app.graphics.window, button) == GLFW_PRESS;
+		if (graphics.window == 0) return false;
+		return glfwGetMouseButton(graphics.window, button) == GLFW_PRESS;
 	}
 
 	public boolean isKeyPressed (int key) {
 		if (key == Input.Keys.ANY_KEY) return pressedKeys > 0;
+		if (graphics.window == 0) return false;
 		if (key == Input.Keys.SYM)
-			return glfwGetKey(app.graphics.window, GLFW_KEY_LEFT_SUPER) == GLFW_PRESS || glfwGetKey(app.graphics.window, GLFW_KEY_RIGHT_SUPER) == GLFW_PRESS;
-		return glfwGetKey(app.graphics.window, getJglfwKeyCode(key)) == GLFW_PRESS;
+			return glfwGetKey(graphics.window, GLFW_KEY_LEFT_SUPER) == GLFW_PRESS || glfwGetKey(graphics.window, GLFW_KEY_RIGHT_SUPER) == GLFW_PRESS;
+		return glfwGetKey(graphics.window, getJglfwKeyCode(key)) == GLFW_PRESS;
 	}
 
 	@Override
@@ -274,15 +299,18 @@ public class JglfwInput implements Input {
 	}
 
 	public void setCursorCatched (boolean captured) {
-		glfwSetInputMode(app.graphics.window, GLFW_CURSOR, captured ? GLFW_CURSOR_DISABLED : GLFW_CURSOR_NORMAL);
+		if (graphics.window == 0) return;
+		glfwSetInputMode(graphics.window, GLFW_CURSOR, captured ? GLFW_CURSOR_DISABLED : GLFW_CURSOR_NORMAL);
 	}
 
 	public boolean isCursorCatched () {
-		return glfwGetInputMode(app.graphics.window, GLFW_CURSOR) == GLFW_CURSOR_DISABLED;
+		if (graphics.window == 0) return false;
+		return glfwGetInputMode(graphics.window, GLFW_CURSOR) == GLFW_CURSOR_DISABLED;
 	}
 
 	public void setCursorPosition (int x, int y) {
-		glfwSetCursorPos(app.graphics.window, x, y);
+		if (graphics.window == 0) return;
+		glfwSetCursorPos(graphics.window, x, y);
 	}
 
 	public void getTextInput (final TextInputListener listener, final String title, final String text, final String hint) {
@@ -0,0 +1,185 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Graphics.DisplayMode;
+import com.badlogic.gdx.backends.jglfw.JglfwGraphics.JglfwDisplayMode;
+import com.badlogic.gdx.utils.Array;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.PointerBuffer;
+import org.lwjgl.glfw.GLFWVidMode;
+
+import java.nio.IntBuffer;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/** A snapshot of a monitor, taken when the application starts, when a monitor is connected or disconnected and when a window
+ * enters or leaves fullscreen. Reading it makes no GLFW calls. If the monitor doesn't report its physical size, 96 pixels per
+ * inch is assumed.
+ * @see JglfwGraphics#getMonitors() */
+public class JglfwMonitor {
+	static private final float mmPerInch = 25.4f;
+	static private final JglfwMonitor[] none = new JglfwMonitor[0];
+	static private volatile JglfwMonitor[] monitors = none;
+
+	final long handle;
+	private final String name;
+	private final boolean primary;
+	private final int x, y, physicalWidth, physicalHeight;
+	private final DisplayMode displayMode;
+	private final DisplayMode[] displayModes;
+	private final float ppiX, ppiY, density;
+
+	JglfwMonitor (long handle, boolean primary, IntBuffer intBuffer, IntBuffer intBuffer2) {
+		this.handle = handle;
+		this.primary = primary;
+		name = glfwGetMonitorName(handle);
+
+		intBuffer.clear();
+		intBuffer2.clear();
+		glfwGetMonitorPos(handle, intBuffer, intBuffer2);
+		x = intBuffer.get(0);
+		y = intBuffer2.get(0);
+
+		intBuffer.clear();
+		intBuffer2.clear();
+		glfwGetMonitorPhysicalSize(handle, intBuffer, intBuffer2);
+		physicalWidth = intBuffer.get(0);
+		physicalHeight = intBuffer2.get(0);
+
+		GLFWVidMode mode = glfwGetVideoMode(handle);
+		displayMode = new JglfwDisplayMode(mode.width(), mode.height(), mode.refreshRate(), mode.redBits() + mode.greenBits()
+			+ mode.blueBits());
+		GLFWVidMode.Buffer modes = glfwGetVideoModes(handle);
+		displayModes = new DisplayMode[modes.capacity()];
+		for (int i = 0; i < displayModes.length; i++) {
+			modes.position(i);
+			displayModes[i] = new JglfwDisplayMode(modes.width(), modes.height(), modes.refreshRate(), modes.redBits()
+				+ modes.greenBits() + modes.blueBits());
+		}
+
+		ppiX = physicalWidth > 0 ? displayMode.width / (physicalWidth / mmPerInch) : 96;
+		ppiY = physicalHeight > 0 ? displayMode.height / (physicalHeight / mmPerInch) : 96;
+		if (physicalWidth > 0 && physicalHeight > 0) {
+			float inches = (float)Math.sqrt(physicalWidth * physicalWidth + physicalHeight * physicalHeight) / mmPerInch;
+			float pixels = (float)Math.sqrt(displayMode.width * displayMode.width + displayMode.height * displayMode.height);
+			density = pixels / inches / 160f;
+		} else
+			density = 96 / 160f;
+	}
+
+	/** Takes a new snapshot of the connected monitors. Called on the main thread after GLFW is initialized and when the monitors
+	 * or their modes change. */
+	static void refresh () {
+		long primary = glfwGetPrimaryMonitor();
+		if (primary == 0) {
+			monitors = none;
+			return;
+		}
+		IntBuffer intBuffer = BufferUtils.createIntBuffer(1), intBuffer2 = BufferUtils.createIntBuffer(1);
+		Array<JglfwMonitor> snapshot = new Array(JglfwMonitor.class);
+		snapshot.add(new JglfwMonitor(primary, true, intBuffer, intBuffer2));
+		PointerBuffer handles = glfwGetMonitors();
+		for (int i = handles.position(), n = handles.limit(); i < n; i++) {
+			long handle = handles.get(i);
+			if (handle != primary) snapshot.add(new JglfwMonitor(handle, false, intBuffer, intBuffer2));
+		}
+		monitors = snapshot.toArray();
+	}
+
+	/** Returns the monitors from the last snapshot, the primary monitor first. The array must not be modified. */
+	static JglfwMonitor[] getAll () {
+		return monitors;
+	}
+
+	/** Returns the monitor with the handle, else the primary monitor, or null if no monitor is connected. */
+	static JglfwMonitor get (long handle) {
+		JglfwMonitor[] monitors = JglfwMonitor.monitors;
+		if (monitors.length == 0) return null;
+		for (int i = 0; i < monitors.length; i++)
+			if (monitors[i].handle == handle) return monitors[i];
+		return monitors[0];
+	}
+
+	/** Returns the GLFW monitor handle. */
+	public long getHandle () {
+		return handle;
+	}
+
+	public String getName () {
+		return name;
+	}
+
+	public boolean isPrimary () {
+		return primary;
+	}
+
+	/** Returns the x coordinate of the monitor on the virtual desktop, in screen coordinates. */
+	public int getX () {
+		return x;
+	}
+
+	/** Returns the y coordinate of the monitor on the virtual desktop, in screen coordinates. */
+	public int getY () {
+		return y;
+	}
+
+	/** Returns the width of the display area in millimeters, or 0 if unknown. */
+	public int getPhysicalWidth () {
+		return physicalWidth;
+	}
+
+	/** Returns the height of the display area in millimeters, or 0 if unknown. */
+	public int getPhysicalHeight () {
+		return physicalHeight;
+	}
+
+	/** Returns the current display mode. */
+	public DisplayMode getDisplayMode () {
+		return displayMode;
+	}
+
+	/** Returns the supported display modes. The array must not be modified. */
+	public DisplayMode[] getDisplayModes () {
+		return displayModes;
+	}
+
+	public float getPpiX () {
+		return ppiX;
+	}
+
+	public float getPpiY () {
+		return ppiY;
+	}
+
+	public float getPpcX () {
+		return ppiX / 2.54f;
+	}
+
+	public float getPpcY () {
+		return ppiY / 2.54f;
+	}
+
+	/** Returns the diagonal pixels per inch divided by 160, see {@link com.badlogic.gdx.Graphics#getDensity()}. */
+	public float getDensity () {
+		return density;
+	}
+
+	public String toString () {
+		return name + " " + displayMode;
+	}
+}
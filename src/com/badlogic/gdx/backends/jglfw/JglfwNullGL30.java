@@ -0,0 +1,1217 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.graphics.GL30;
+import org.lwjgl.PointerBuffer;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/** A {@link GL30} that does nothing but count calls, used in headless mode so game logic, asset creation and shaders run
+ * without a GPU. Generated names are unique, shaders always compile and link, and framebuffers are always complete. */
+public class JglfwNullGL30 implements GL30, JglfwGLMultiDraw {
+	private long calls, drawCalls;
+	private int nextId = 1;
+
+	/** Returns the number of GL calls made since the last {@link #resetCalls()}. */
+	public long getCalls () {
+		return calls;
+	}
+
+	/** Returns the number of draw calls made since the last {@link #resetCalls()}. */
+	public long getDrawCalls () {
+		return drawCalls;
+	}
+
+	public void resetCalls () {
+		calls = 0;
+		drawCalls = 0;
+	}
+
+	private int getInteger (int pname) {
+		switch (pname) {
+		case GL_MAX_TEXTURE_SIZE:
+		case GL_MAX_RENDERBUFFER_SIZE:
+			return 4096;
+		case GL_MAX_TEXTURE_IMAGE_UNITS:
+		case GL_MAX_VERTEX_ATTRIBS:
+			return 16;
+		case GL_MAX_COMBINED_TEXTURE_IMAGE_UNITS:
+			return 32;
+		default:
+			return 0;
+		}
+	}
+
+	private String getString (int name) {
+		switch (name) {
+		case GL_VENDOR:
+			return "libgdx";
+		case GL_RENDERER:
+			return "JglfwNullGL30";
+		case GL_VERSION:
+			return "3.0 headless";
+		case GL_SHADING_LANGUAGE_VERSION:
+			return "1.30";
+		default:
+			return "";
+		}
+	}
+
+	public void glActiveTexture (int texture) {
+		calls++;
+	}
+
+	public void glBindTexture (int target, int texture) {
+		calls++;
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		calls++;
+	}
+
+	public void glClear (int mask) {
+		calls++;
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		calls++;
+	}
+
+	public void glClearDepthf (float depth) {
+		calls++;
+	}
+
+	public void glClearStencil (int s) {
+		calls++;
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		calls++;
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		calls++;
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		calls++;
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		calls++;
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		calls++;
+	}
+
+	public void glCullFace (int mode) {
+		calls++;
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		calls++;
+	}
+
+	public void glDeleteTexture (int texture) {
+		calls++;
+	}
+
+	public void glDepthFunc (int func) {
+		calls++;
+	}
+
+	public void glDepthMask (boolean flag) {
+		calls++;
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		calls++;
+	}
+
+	public void glDisable (int cap) {
+		calls++;
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glEnable (int cap) {
+		calls++;
+	}
+
+	public void glFinish () {
+		calls++;
+	}
+
+	public void glFlush () {
+		calls++;
+	}
+
+	public void glFrontFace (int mode) {
+		calls++;
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		calls++;
+		for (int i = textures.position(), end = textures.limit(); i < end; i++)
+			textures.put(i, nextId++);
+	}
+
+	public int glGenTexture () {
+		calls++;
+		return nextId++;
+	}
+
+	public int glGetError () {
+		calls++;
+		return 0;
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		calls++;
+		params.put(params.position(), getInteger(pname));
+	}
+
+	public String glGetString (int name) {
+		calls++;
+		return getString(name);
+	}
+
+	public void glHint (int target, int mode) {
+		calls++;
+	}
+
+	public void glLineWidth (float width) {
+		calls++;
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		calls++;
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		calls++;
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		calls++;
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		calls++;
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		calls++;
+	}
+
+	public void glStencilMask (int mask) {
+		calls++;
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		calls++;
+	}
+
+	public void glTexImage2D (int target, int level, int internalFormat, int width, int height, int border, int format,
+		int type, Buffer pixels) {
+		calls++;
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		calls++;
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		calls++;
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		calls++;
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		calls++;
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		calls++;
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		calls++;
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		calls++;
+	}
+
+	public void glDeleteBuffer (int buffer) {
+		calls++;
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		calls++;
+		for (int i = buffers.position(), end = buffers.limit(); i < end; i++)
+			buffers.put(i, nextId++);
+	}
+
+	public int glGenBuffer () {
+		calls++;
+		return nextId++;
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		calls++;
+		return false;
+	}
+
+	public boolean glIsEnabled (int cap) {
+		calls++;
+		return false;
+	}
+
+	public boolean glIsTexture (int texture) {
+		calls++;
+		return false;
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		calls++;
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glAttachShader (int program, int shader) {
+		calls++;
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		calls++;
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		calls++;
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		calls++;
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		calls++;
+	}
+
+	public void glBlendEquation (int mode) {
+		calls++;
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		calls++;
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		calls++;
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		calls++;
+		return GL_FRAMEBUFFER_COMPLETE;
+	}
+
+	public void glCompileShader (int shader) {
+		calls++;
+	}
+
+	public int glCreateProgram () {
+		calls++;
+		return nextId++;
+	}
+
+	public int glCreateShader (int type) {
+		calls++;
+		return nextId++;
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		calls++;
+	}
+
+	public void glDeleteFramebuffer (int framebuffer) {
+		calls++;
+	}
+
+	public void glDeleteProgram (int program) {
+		calls++;
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		calls++;
+	}
+
+	public void glDeleteRenderbuffer (int renderbuffer) {
+		calls++;
+	}
+
+	public void glDeleteShader (int shader) {
+		calls++;
+	}
+
+	public void glDetachShader (int program, int shader) {
+		calls++;
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		calls++;
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		calls++;
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		calls++;
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		calls++;
+	}
+
+	public void glGenerateMipmap (int target) {
+		calls++;
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		calls++;
+		for (int i = framebuffers.position(), end = framebuffers.limit(); i < end; i++)
+			framebuffers.put(i, nextId++);
+	}
+
+	public int glGenFramebuffer () {
+		calls++;
+		return nextId++;
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		calls++;
+		for (int i = renderbuffers.position(), end = renderbuffers.limit(); i < end; i++)
+			renderbuffers.put(i, nextId++);
+	}
+
+	public int glGenRenderbuffer () {
+		calls++;
+		return nextId++;
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		calls++;
+		return "";
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		calls++;
+		return "";
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		calls++;
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		calls++;
+		return 0;
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		calls++;
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		calls++;
+		params.put(params.position(), pname == GL_COMPILE_STATUS || pname == GL_LINK_STATUS || pname == GL_VALIDATE_STATUS ? GL_TRUE : 0);
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		calls++;
+		return "";
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		calls++;
+		params.put(params.position(), pname == GL_COMPILE_STATUS || pname == GL_LINK_STATUS || pname == GL_VALIDATE_STATUS ? GL_TRUE : 0);
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		calls++;
+		return "";
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		calls++;
+	}
+
+	public void glGetShaderSource (int shader, int bufsize, Buffer length, String source) {
+		calls++;
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		calls++;
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		calls++;
+		return 0;
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		calls++;
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		calls++;
+		return false;
+	}
+
+	public boolean glIsProgram (int program) {
+		calls++;
+		return false;
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		calls++;
+		return false;
+	}
+
+	public boolean glIsShader (int shader) {
+		calls++;
+		return false;
+	}
+
+	public void glLinkProgram (int program) {
+		calls++;
+	}
+
+	public void glReleaseShaderCompiler () {
+		calls++;
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		calls++;
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		calls++;
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		calls++;
+	}
+
+	public void glShaderSource (int shader, String string) {
+		calls++;
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		calls++;
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		calls++;
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		calls++;
+	}
+
+	public void glUniform1f (int location, float x) {
+		calls++;
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		calls++;
+	}
+
+	public void glUniform1fv (int location, int count, float[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform1i (int location, int x) {
+		calls++;
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		calls++;
+	}
+
+	public void glUniform1iv (int location, int count, int[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		calls++;
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		calls++;
+	}
+
+	public void glUniform2fv (int location, int count, float[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		calls++;
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		calls++;
+	}
+
+	public void glUniform2iv (int location, int count, int[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		calls++;
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		calls++;
+	}
+
+	public void glUniform3fv (int location, int count, float[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		calls++;
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		calls++;
+	}
+
+	public void glUniform3iv (int location, int count, int[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		calls++;
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		calls++;
+	}
+
+	public void glUniform4fv (int location, int count, float[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		calls++;
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		calls++;
+	}
+
+	public void glUniform4iv (int location, int count, int[] v, int offset) {
+		calls++;
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
+		calls++;
+	}
+
+	public void glUseProgram (int program) {
+		calls++;
+	}
+
+	public void glValidateProgram (int program) {
+		calls++;
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		calls++;
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		calls++;
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		calls++;
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		calls++;
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		calls++;
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer buffer) {
+		calls++;
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		calls++;
+	}
+
+	public void glReadBuffer (int mode) {
+		calls++;
+	}
+
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, Buffer indices) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glDrawRangeElements (int mode, int start, int end, int count, int type, int offset) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border,
+		int format, int type, Buffer pixels) {
+		calls++;
+	}
+
+	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border,
+		int format, int type, int offset) {
+		calls++;
+	}
+
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height,
+		int depth, int format, int type, Buffer pixels) {
+		calls++;
+	}
+
+	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height,
+		int depth, int format, int type, int offset) {
+		calls++;
+	}
+
+	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width,
+		int height) {
+		calls++;
+	}
+
+	public void glGenQueries (int n, int[] ids, int offset) {
+		calls++;
+		for (int i = offset; i < offset + n; i++)
+			ids[i] = nextId++;
+	}
+
+	public void glGenQueries (int n, IntBuffer ids) {
+		calls++;
+		for (int i = ids.position(), end = ids.limit(); i < end; i++)
+			ids.put(i, nextId++);
+	}
+
+	public void glDeleteQueries (int n, int[] ids, int offset) {
+		calls++;
+	}
+
+	public void glDeleteQueries (int n, IntBuffer ids) {
+		calls++;
+	}
+
+	public boolean glIsQuery (int id) {
+		calls++;
+		return false;
+	}
+
+	public void glBeginQuery (int target, int id) {
+		calls++;
+	}
+
+	public void glEndQuery (int target) {
+		calls++;
+	}
+
+	public void glGetQueryiv (int target, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public boolean glUnmapBuffer (int target) {
+		calls++;
+		return true;
+	}
+
+	public Buffer glGetBufferPointerv (int target, int pname) {
+		calls++;
+		return null;
+	}
+
+	public void glDrawBuffers (int n, IntBuffer bufs) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1,
+		int mask, int filter) {
+		calls++;
+	}
+
+	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
+		calls++;
+	}
+
+	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
+		calls++;
+	}
+
+	public void glFlushMappedBufferRange (int target, int offset, int length) {
+		calls++;
+	}
+
+	public void glBindVertexArray (int array) {
+		calls++;
+	}
+
+	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
+		calls++;
+	}
+
+	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
+		calls++;
+	}
+
+	public void glGenVertexArrays (int n, int[] arrays, int offset) {
+		calls++;
+		for (int i = offset; i < offset + n; i++)
+			arrays[i] = nextId++;
+	}
+
+	public void glGenVertexArrays (int n, IntBuffer arrays) {
+		calls++;
+		for (int i = arrays.position(), end = arrays.limit(); i < end; i++)
+			arrays.put(i, nextId++);
+	}
+
+	public boolean glIsVertexArray (int array) {
+		calls++;
+		return false;
+	}
+
+	public void glBeginTransformFeedback (int primitiveMode) {
+		calls++;
+	}
+
+	public void glEndTransformFeedback () {
+		calls++;
+	}
+
+	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
+		calls++;
+	}
+
+	public void glBindBufferBase (int target, int index, int buffer) {
+		calls++;
+	}
+
+	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
+		calls++;
+	}
+
+	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
+		calls++;
+	}
+
+	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
+		calls++;
+	}
+
+	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
+		calls++;
+	}
+
+	public void glGetUniformuiv (int program, int location, IntBuffer params) {
+		calls++;
+	}
+
+	public int glGetFragDataLocation (int program, String name) {
+		calls++;
+		return 0;
+	}
+
+	public void glUniform1uiv (int location, int count, IntBuffer value) {
+		calls++;
+	}
+
+	public void glUniform3uiv (int location, int count, IntBuffer value) {
+		calls++;
+	}
+
+	public void glUniform4uiv (int location, int count, IntBuffer value) {
+		calls++;
+	}
+
+	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
+		calls++;
+	}
+
+	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
+		calls++;
+	}
+
+	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
+		calls++;
+	}
+
+	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
+		calls++;
+	}
+
+	public String glGetStringi (int name, int index) {
+		calls++;
+		return "";
+	}
+
+	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
+		calls++;
+	}
+
+	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
+		calls++;
+	}
+
+	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
+		calls++;
+		return 0;
+	}
+
+	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
+		calls++;
+	}
+
+	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
+		calls++;
+		return "";
+	}
+
+	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
+		calls++;
+	}
+
+	public void glDrawArraysInstanced (int mode, int first, int count, int instanceCount) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glDrawElementsInstanced (int mode, int count, int type, int indicesOffset, int instanceCount) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glGetInteger64v (int pname, LongBuffer params) {
+		calls++;
+	}
+
+	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
+		calls++;
+	}
+
+	public void glGenSamplers (int count, int[] samplers, int offset) {
+		calls++;
+		for (int i = offset; i < offset + count; i++)
+			samplers[i] = nextId++;
+	}
+
+	public void glGenSamplers (int count, IntBuffer samplers) {
+		calls++;
+		for (int i = samplers.position(), end = samplers.limit(); i < end; i++)
+			samplers.put(i, nextId++);
+	}
+
+	public void glDeleteSamplers (int count, int[] samplers, int offset) {
+		calls++;
+	}
+
+	public void glDeleteSamplers (int count, IntBuffer samplers) {
+		calls++;
+	}
+
+	public boolean glIsSampler (int sampler) {
+		calls++;
+		return false;
+	}
+
+	public void glBindSampler (int unit, int sampler) {
+		calls++;
+	}
+
+	public void glSamplerParameteri (int sampler, int pname, int param) {
+		calls++;
+	}
+
+	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
+		calls++;
+	}
+
+	public void glSamplerParameterf (int sampler, int pname, float param) {
+		calls++;
+	}
+
+	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
+		calls++;
+	}
+
+	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
+		calls++;
+	}
+
+	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
+		calls++;
+	}
+
+	public void glVertexAttribDivisor (int index, int divisor) {
+		calls++;
+	}
+
+	public void glBindTransformFeedback (int target, int id) {
+		calls++;
+	}
+
+	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
+		calls++;
+	}
+
+	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
+		calls++;
+	}
+
+	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
+		calls++;
+		for (int i = offset; i < offset + n; i++)
+			ids[i] = nextId++;
+	}
+
+	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
+		calls++;
+		for (int i = ids.position(), end = ids.limit(); i < end; i++)
+			ids.put(i, nextId++);
+	}
+
+	public boolean glIsTransformFeedback (int id) {
+		calls++;
+		return false;
+	}
+
+	public void glPauseTransformFeedback () {
+		calls++;
+	}
+
+	public void glResumeTransformFeedback () {
+		calls++;
+	}
+
+	public void glProgramParameteri (int program, int pname, int value) {
+		calls++;
+	}
+
+	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
+		calls++;
+	}
+
+	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width,
+		int height) {
+		calls++;
+	}
+
+	public boolean supportsMultiDraw () {
+		return true;
+	}
+
+	public boolean supportsDrawIndirect () {
+		return true;
+	}
+
+	public boolean supportsMultiDrawIndirect () {
+		return true;
+	}
+
+	public void glMultiDrawArrays (int mode, IntBuffer first, IntBuffer count) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glMultiDrawElements (int mode, IntBuffer count, int type, PointerBuffer indices) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glDrawArraysIndirect (int mode, long indirect) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glDrawElementsIndirect (int mode, int type, long indirect) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glMultiDrawArraysIndirect (int mode, long indirect, int drawCount, int stride) {
+		calls++;
+		drawCalls++;
+	}
+
+	public void glMultiDrawElementsIndirect (int mode, int type, long indirect, int drawCount, int stride) {
+		calls++;
+		drawCalls++;
+	}
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.ApplicationListener;
+
+/** An {@link ApplicationListener} that splits each frame between two threads. When {@link JglfwApplicationConfiguration#pipelined}
+ * is true, {@link #update(int)} runs on the main loop thread while a render thread, which owns the GL context, draws the previous
+ * frame with {@link #render(int)}. The listener keeps two copies of whatever state rendering needs, indexed by the buffer
+ * argument: update writes one while render reads the other.
+ * <p>
+ * {@link #create()}, {@link #resize(int, int)}, {@link #pause()}, {@link #resume()}, {@link #dispose()} and runnables posted with
+ * {@link JglfwApplication#postRunnable(Runnable)} run on the render thread. {@link #update(int)} must not call GL, and window
+ * operations (display mode, title, cursor) must be made from {@link #update(int)}, as GLFW requires them on the main thread. */
+public interface JglfwPipelinedListener extends ApplicationListener {
+	/** Runs game logic for the next frame on the main loop thread, writing render state into the given buffer.
+	 * @param buffer 0 or 1, alternating every frame. */
+	public void update (int buffer);
+
+	/** Draws a frame on the render thread from the state {@link #update(int)} wrote into the given buffer. Called instead of
+	 * {@link #render()}.
+	 * @param buffer 0 or 1, alternating every frame. */
+	public void render (int buffer);
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GL44;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/** A GL buffer for geometry that changes every frame, written directly by the CPU without implicit driver synchronization. The
+ * buffer is split into regions used round robin. Each {@link #begin()} returns the next region's memory to write into,
+ * {@link #end()} returns the byte offset of the written data within the buffer, to be used with glVertexAttribPointer or
+ * glDrawElements.
+ * <p>
+ * With OpenGL 4.4 or ARB_buffer_storage, and fences, the whole buffer is mapped once, persistently and coherently. A fence is
+ * inserted after the draws that read a region, when the next region is begun, and the CPU only waits on it when it comes back
+ * around to that region, which normally has long completed. Otherwise the buffer falls back to orphaning: each region is staged
+ * in client memory and uploaded with glBufferData(null) followed by glBufferSubData, so the driver can hand out fresh storage
+ * instead of waiting on the GPU.
+ * <p>
+ * Must be created, used and disposed on the thread owning the GL context. */
+public class JglfwStreamingBuffer implements Disposable {
+	private final int target, regionSize, regionCount;
+	private final boolean persistent;
+	private int handle;
+	private ByteBuffer mapped;
+	private final ByteBuffer[] regions;
+	private final long[] fences;
+	private int region = -1;
+	private boolean writing;
+	private int stalls;
+
+	/** @param target The buffer target, eg GL_ARRAY_BUFFER or GL_ELEMENT_ARRAY_BUFFER.
+	 * @param regionSize The maximum number of bytes written between {@link #begin()} and {@link #end()}.
+	 * @param regionCount Number of regions, usually the number of frames the GPU may lag behind plus one. */
+	public JglfwStreamingBuffer (int target, int regionSize, int regionCount) {
+		if (regionSize <= 0) throw new IllegalArgumentException("regionSize must be > 0: " + regionSize);
+		if (regionCount <= 0) throw new IllegalArgumentException("regionCount must be > 0: " + regionCount);
+		this.target = target;
+		this.regionSize = regionSize;
+		this.regionCount = regionCount;
+
+		GLCapabilities caps = GL.getCapabilities();
+		persistent = (caps.OpenGL44 || caps.GL_ARB_buffer_storage) && (caps.OpenGL32 || caps.GL_ARB_sync);
+
+		handle = Gdx.gl.glGenBuffer();
+		Gdx.gl.glBindBuffer(target, handle);
+		if (persistent) {
+			int size = regionSize * regionCount;
+			int flags = GL30.GL_MAP_WRITE_BIT | GL44.GL_MAP_PERSISTENT_BIT | GL44.GL_MAP_COHERENT_BIT;
+			GL44.glBufferStorage(target, size, flags);
+			mapped = GL30.glMapBufferRange(target, 0, size, flags);
+			if (mapped == null) throw new GdxRuntimeException("Unable to map streaming buffer: " + size + " bytes");
+			regions = new ByteBuffer[regionCount];
+			for (int i = 0; i < regionCount; i++) {
+				mapped.limit((i + 1) * regionSize);
+				mapped.position(i * regionSize);
+				regions[i] = mapped.slice().order(ByteOrder.nativeOrder());
+			}
+			mapped.clear();
+			fences = new long[regionCount];
+		} else {
+			Gdx.gl.glBufferData(target, regionSize, null, GL20.GL_STREAM_DRAW);
+			regions = new ByteBuffer[] {BufferUtils.newByteBuffer(regionSize)};
+			fences = null;
+		}
+	}
+
+	/** Moves to the next region and returns its memory, cleared, to be written starting at position 0. With persistent mapping this
+	 * waits if the GPU is still reading the region. */
+	public ByteBuffer begin () {
+		if (writing) throw new GdxRuntimeException("end must be called before begin.");
+		writing = true;
+		if (!persistent) {
+			ByteBuffer buffer = regions[0];
+			buffer.clear();
+			return buffer;
+		}
+		// Fence the draws issued since the previous region was written.
+		if (region != -1) fences[region] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+		region = (region + 1) % regionCount;
+		waitFence(region);
+		ByteBuffer buffer = regions[region];
+		buffer.clear();
+		return buffer;
+	}
+
+	/** Makes the data written since {@link #begin()} available to the GPU. The buffer is bound to the target when orphaning.
+	 * @return the byte offset of the data within the buffer. */
+	public int end () {
+		if (!writing) throw new GdxRuntimeException("begin must be called before end.");
+		writing = false;
+		if (persistent) return region * regionSize;
+		ByteBuffer buffer = regions[0];
+		buffer.flip();
+		Gdx.gl.glBindBuffer(target, handle);
+		Gdx.gl.glBufferData(target, regionSize, null, GL20.GL_STREAM_DRAW);
+		if (buffer.hasRemaining()) Gdx.gl.glBufferSubData(target, 0, buffer.remaining(), buffer);
+		return 0;
+	}
+
+	private void waitFence (int region) {
+		long fence = fences[region];
+		if (fence == 0) return;
+		int result = GL32.glClientWaitSync(fence, 0, 0);
+		if (result == GL32.GL_TIMEOUT_EXPIRED) {
+			stalls++;
+			do {
+				result = GL32.glClientWaitSync(fence, GL32.GL_SYNC_FLUSH_COMMANDS_BIT, 1000000);
+			} while (result == GL32.GL_TIMEOUT_EXPIRED);
+		}
+		GL32.glDeleteSync(fence);
+		fences[region] = 0;
+		if (result == GL32.GL_WAIT_FAILED) throw new GdxRuntimeException("Unable to wait for streaming buffer fence.");
+	}
+
+	public void bind () {
+		Gdx.gl.glBindBuffer(target, handle);
+	}
+
+	public int getHandle () {
+		return handle;
+	}
+
+	public int getTarget () {
+		return target;
+	}
+
+	public int getRegionSize () {
+		return regionSize;
+	}
+
+	/** Returns true if the buffer is persistently mapped, false if it falls back to orphaning. */
+	public boolean isPersistent () {
+		return persistent;
+	}
+
+	/** Returns how many times {@link #begin()} had to wait for the GPU to finish reading a region. If this keeps growing, use more
+	 * regions. */
+	public int getStalls () {
+		return stalls;
+	}
+
+	public void dispose () {
+		if (handle == 0) return;
+		if (persistent) {
+			for (int i = 0; i < regionCount; i++) {
+				if (fences[i] != 0) GL32.glDeleteSync(fences[i]);
+				fences[i] = 0;
+			}
+			Gdx.gl.glBindBuffer(target, handle);
+			GL15.glUnmapBuffer(target);
+			mapped = null;
+		}
+		Gdx.gl.glDeleteBuffer(handle);
+		handle = 0;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2002-2012 LWJGL Project
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are
+ * met:
+ *
+ * * Redistributions of source code must retain the above copyright
+ *   notice, this list of conditions and the following disclaimer.
+ *
+ * * Redistributions in binary form must reproduce the above copyright
+ *   notice, this list of conditions and the following disclaimer in the
+ *   documentation and/or other materials provided with the distribution.
+ *
+ * * Neither the name of 'LWJGL' nor the names of
+ *   its contributors may be used to endorse or promote products derived
+ *   from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED
+ * TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR
+ * PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package com.badlogic.gdx.backends.jglfw;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/** A highly accurate sync method that continually adapts to the system it runs on to provide reliable results. The thread is
+ * parked until shortly before the next frame, where "shortly" is an adaptive estimate of how late the OS wakes parked threads,
+ * and only yields for the remainder. Wake error statistics are kept per instance, see {@link #getMeanWakeError()} and
+ * {@link #getP99WakeError()}.
+ * 
+ * @author Riven
+ * @author kappaOne */
+public class JglfwSync implements JglfwFrameLimiter {
+	/** number of nano seconds in a second */
+	private static final long NANOS_IN_SECOND = 1000L * 1000L * 1000L;
+	/** upper bound for the oversleep estimate, in case of a single huge scheduling hiccup */
+	private static final long MAX_OVERSLEEP = 4 * 1000L * 1000L;
+	/** number of wake errors kept for the statistics */
+	private static final int ERROR_SAMPLES = 256;
+
+	private static boolean timerAccuracyThreadStarted;
+
+	/** The time to park/yield until the next frame */
+	private long nextFrame;
+
+	/** whether the initialisation code has run */
+	private boolean initialised;
+
+	/** running estimate of how much later than requested parkNanos returns */
+	private long oversleep = 100 * 1000L;
+
+	private final long[] wakeErrors = new long[ERROR_SAMPLES];
+	private final long[] sortedWakeErrors = new long[ERROR_SAMPLES];
+	private int wakeErrorCount, wakeErrorOffset;
+
+	/** An accurate sync method that will attempt to run at a constant frame rate. It should be called once every frame.
+	 * 
+	 * @param fps - the desired frame rate, in frames per second */
+	public void sync (int fps) {
+		if (fps <= 0) return;
+		if (!initialised) initialise();
+
+		long now = System.nanoTime();
+		if (nextFrame - now > 0) {
+			// park until the estimated oversleep is greater than the time remaining till nextFrame
+			for (long remaining = nextFrame - now; remaining > oversleep; remaining = nextFrame - now) {
+				long requested = remaining - oversleep;
+				LockSupport.parkNanos(requested);
+				long t1 = System.nanoTime();
+				updateOversleep(t1 - now - requested);
+				now = t1;
+			}
+
+			// yield the little that is left
+			while (nextFrame - now > 0) {
+				Thread.yield();
+				now = System.nanoTime();
+			}
+
+			addWakeError(now - nextFrame);
+		}
+
+		// schedule next frame, drop frame(s) if already too late for next frame
+		nextFrame = Math.max(nextFrame + NANOS_IN_SECOND / fps, now);
+	}
+
+	/** Blends a new oversleep sample into the estimate. Increases are taken quickly so we stop parking too long, decreases slowly
+	 * so a single lucky wake up doesn't make the next frames late. */
+	private void updateOversleep (long sample) {
+		if (sample < 0) sample = 0;
+		if (sample > MAX_OVERSLEEP) sample = MAX_OVERSLEEP;
+		if (sample > oversleep)
+			oversleep = (oversleep + sample) / 2;
+		else
+			oversleep = (oversleep * 15 + sample) / 16;
+	}
+
+	private void addWakeError (long error) {
+		wakeErrors[wakeErrorOffset] = error;
+		wakeErrorOffset = (wakeErrorOffset + 1) % ERROR_SAMPLES;
+		if (wakeErrorCount < ERROR_SAMPLES) wakeErrorCount++;
+	}
+
+	/** Returns the mean time, in nanoseconds, the frame started after its scheduled time over the last frames that had to wait. */
+	public long getMeanWakeError () {
+		if (wakeErrorCount == 0) return 0;
+		long sum = 0;
+		for (int i = 0; i < wakeErrorCount; i++)
+			sum += wakeErrors[i];
+		return sum / wakeErrorCount;
+	}
+
+	/** Returns the 99th percentile of the time, in nanoseconds, the frame started after its scheduled time over the last frames
+	 * that had to wait. */
+	public long getP99WakeError () {
+		if (wakeErrorCount == 0) return 0;
+		System.arraycopy(wakeErrors, 0, sortedWakeErrors, 0, wakeErrorCount);
+		Arrays.sort(sortedWakeErrors, 0, wakeErrorCount);
+		return sortedWakeErrors[Math.min(wakeErrorCount - 1, (int)(wakeErrorCount * 0.99f))];
+	}
+
+	/** Returns the current estimate, in nanoseconds, of how late the OS wakes up a parked thread. */
+	public long getOversleepEstimate () {
+		return oversleep;
+	}
+
+	/** Clears the wake error statistics. */
+	public void resetStatistics () {
+		wakeErrorCount = 0;
+		wakeErrorOffset = 0;
+	}
+
+	/** This method will initialise the sync method by setting the initial value for nextFrame.
+	 * 
+	 * If running on windows it will start the sleep timer fix. */
+	private void initialise () {
+		initialised = true;
+
+		nextFrame = System.nanoTime();
+
+		startTimerAccuracyThread();
+	}
+
+	static private synchronized void startTimerAccuracyThread () {
+		if (timerAccuracyThreadStarted) return;
+		timerAccuracyThreadStarted = true;
+
+		String osName = System.getProperty("os.name");
+
+		if (osName.startsWith("Win")) {
+			// On windows the sleep functions can be highly inaccurate by
+			// over 10ms making in unusable. However it can be forced to
+			// be a bit more accurate by running a separate sleeping daemon
+			// thread.
+			Thread timerAccuracyThread = new Thread(new Runnable() {
+				public void run () {
+					try {
+						Thread.sleep(Long.MAX_VALUE);
+					} catch (Exception e) {
+					}
+				}
+			});
+
+			timerAccuracyThread.setName("JGLFW Sync");
+			timerAccuracyThread.setDaemon(true);
+			timerAccuracyThread.start();
+		}
+	}
+}
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL13;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GL44;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/** Uploads texture data asynchronously through a ring of GL_PIXEL_UNPACK_BUFFER slots. Any thread may {@link #acquire()} a slot,
+ * write pixels straight into its mapped memory and {@link #submit(Slot, int, int, int, int, int, int, int, int, int)} it. The GL
+ * thread calls {@link #update()} once per frame, which only issues glTexSubImage2D from the buffers, so the pixel copy happens in
+ * the driver without blocking the main loop. A fence is placed after each upload and the slot is handed out again once the GPU has
+ * read it.
+ * <p>
+ * With OpenGL 4.4 or ARB_buffer_storage the buffers are mapped once, persistently. Otherwise each slot is mapped on the GL thread
+ * before it is handed out and unmapped before its upload is issued. Requires OpenGL 3.0 or ARB_map_buffer_range. Without sync
+ * objects, slots are recycled right away and the driver orphans the storage when they are mapped again.
+ * <p>
+ * Uploads use the current GL_UNPACK_ALIGNMENT and the active texture unit. With {@link JglfwApplicationConfiguration#glStateCache}
+ * its GL_TEXTURE_2D and GL_TEXTURE_CUBE_MAP bindings are restored afterward. Otherwise they are left at 0, like
+ * {@link com.badlogic.gdx.graphics.Texture} does after loading, so bind textures again before drawing with them. */
+public class JglfwTextureUploader implements Disposable {
+	private final int slotSize;
+	private final Slot[] slots;
+	private final boolean persistent, fences;
+	private final ArrayBlockingQueue<Slot> free, submitted;
+	/** Slots whose upload was issued, in order. Only touched by the GL thread. */
+	private final Slot[] inFlight;
+	private int inFlightStart, inFlightCount;
+	private int uploads;
+
+	/** Must be called on the GL thread.
+	 * @param slotSize Maximum number of bytes per upload.
+	 * @param slotCount Number of uploads that can be staged or in flight at once. */
+	public JglfwTextureUploader (int slotSize, int slotCount) {
+		if (slotSize <= 0) throw new IllegalArgumentException("slotSize must be > 0: " + slotSize);
+		if (slotCount <= 0) throw new IllegalArgumentException("slotCount must be > 0: " + slotCount);
+		GLCapabilities caps = GL.getCapabilities();
+		if (!caps.OpenGL30 && !caps.GL_ARB_map_buffer_range)
+			throw new GdxRuntimeException("OpenGL 3.0 or ARB_map_buffer_range is required for asynchronous texture uploads.");
+		fences = caps.OpenGL32 || caps.GL_ARB_sync;
+		persistent = (caps.OpenGL44 || caps.GL_ARB_buffer_storage) && fences;
+		this.slotSize = slotSize;
+
+		slots = new Slot[slotCount];
+		inFlight = new Slot[slotCount];
+		free = new ArrayBlockingQueue<Slot>(slotCount);
+		submitted = new ArrayBlockingQueue<Slot>(slotCount);
+		for (int i = 0; i < slotCount; i++) {
+			Slot slot = new Slot();
+			slot.pbo = Gdx.gl.glGenBuffer();
+			Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, slot.pbo);
+			if (persistent) {
+				int flags = GL30.GL_MAP_WRITE_BIT | GL44.GL_MAP_PERSISTENT_BIT | GL44.GL_MAP_COHERENT_BIT;
+				GL44.glBufferStorage(GL21.GL_PIXEL_UNPACK_BUFFER, slotSize, flags);
+				slot.buffer = map(flags);
+			} else {
+				GL15.glBufferData(GL21.GL_PIXEL_UNPACK_BUFFER, slotSize, GL15.GL_STREAM_DRAW);
+				slot.buffer = map(GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_BUFFER_BIT);
+			}
+			slots[i] = slot;
+			free.add(slot);
+		}
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+	}
+
+	/** Maps the pixel unpack buffer currently bound. */
+	private ByteBuffer map (int access) {
+		ByteBuffer buffer = GL30.glMapBufferRange(GL21.GL_PIXEL_UNPACK_BUFFER, 0, slotSize, access);
+		if (buffer == null) throw new GdxRuntimeException("Unable to map pixel unpack buffer: " + slotSize + " bytes");
+		return buffer.order(ByteOrder.nativeOrder());
+	}
+
+	/** Returns a free slot to write pixels into, or null if all slots are staged or in flight. May be called from any thread. */
+	public Slot acquire () {
+		Slot slot = free.poll();
+		if (slot != null) slot.buffer.clear();
+		return slot;
+	}
+
+	/** Waits up to the given time for a free slot. Must not be called on the GL thread, which is the one freeing slots.
+	 * @return the slot, or null if none became free in time. */
+	public Slot acquire (long timeoutMillis) throws InterruptedException {
+		Slot slot = free.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+		if (slot != null) slot.buffer.clear();
+		return slot;
+	}
+
+	/** Queues an upload of the bytes written to the slot, from position 0 to its current position, into a region of the texture.
+	 * The slot must not be touched afterward. May be called from any thread. */
+	public void submit (Slot slot, int texture, int target, int level, int x, int y, int width, int height, int format, int type) {
+		slot.texture = texture;
+		slot.target = target;
+		slot.level = level;
+		slot.x = x;
+		slot.y = y;
+		slot.width = width;
+		slot.height = height;
+		slot.format = format;
+		slot.type = type;
+		if (!submitted.offer(slot)) throw new GdxRuntimeException("Slot was submitted twice.");
+	}
+
+	/** Gives a slot back without uploading it. May be called from any thread. */
+	public void release (Slot slot) {
+		free.offer(slot);
+	}
+
+	/** Recycles slots the GPU has finished reading and issues the queued uploads. Must be called on the GL thread, usually once
+	 * per frame. */
+	public void update () {
+		boolean bound = false;
+		// Recycle finished slots, oldest first.
+		while (inFlightCount > 0) {
+			Slot slot = inFlight[inFlightStart];
+			if (slot.fence != 0) {
+				if (GL32.glClientWaitSync(slot.fence, 0, 0) == GL32.GL_TIMEOUT_EXPIRED) break;
+				GL32.glDeleteSync(slot.fence);
+				slot.fence = 0;
+			}
+			if (!persistent) {
+				Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, slot.pbo);
+				bound = true;
+				slot.buffer = map(GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_BUFFER_BIT);
+			}
+			inFlight[inFlightStart] = null;
+			inFlightStart = (inFlightStart + 1) % inFlight.length;
+			inFlightCount--;
+			free.offer(slot);
+		}
+
+		// Issue the uploads.
+		int previous2D = -1, previousCubeMap = -1;
+		Slot slot;
+		while ((slot = submitted.poll()) != null) {
+			Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, slot.pbo);
+			bound = true;
+			if (!persistent) {
+				GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER);
+				slot.buffer = null;
+			}
+			int target = bindTarget(slot.target);
+			if (target == GL11.GL_TEXTURE_2D) {
+				if (previous2D == -1) previous2D = previousBinding(target);
+			} else if (target == GL13.GL_TEXTURE_CUBE_MAP) {
+				if (previousCubeMap == -1) previousCubeMap = previousBinding(target);
+			}
+			Gdx.gl.glBindTexture(target, slot.texture);
+			// With a pixel unpack buffer bound, a null buffer is offset 0 into it.
+			Gdx.gl.glTexSubImage2D(slot.target, slot.level, slot.x, slot.y, slot.width, slot.height, slot.format, slot.type, null);
+			if (fences) slot.fence = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+			inFlight[(inFlightStart + inFlightCount) % inFlight.length] = slot;
+			inFlightCount++;
+			uploads++;
+		}
+		if (bound) Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+		if (previous2D != -1) Gdx.gl.glBindTexture(GL11.GL_TEXTURE_2D, previous2D);
+		if (previousCubeMap != -1) Gdx.gl.glBindTexture(GL13.GL_TEXTURE_CUBE_MAP, previousCubeMap);
+	}
+
+	/** Returns the texture to bind again after the uploads, known from the GL state cache without querying GL, else 0. */
+	static private int previousBinding (int target) {
+		if (!(Gdx.graphics instanceof JglfwGraphics)) return 0;
+		int texture = ((JglfwGraphics)Gdx.graphics).getTextureBinding(target);
+		return texture == -1 ? 0 : texture;
+	}
+
+	/** Returns the target to bind the texture to for uploading to the given target, eg GL_TEXTURE_CUBE_MAP for a face. */
+	static private int bindTarget (int target) {
+		if (target >= GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X && target <= GL13.GL_TEXTURE_CUBE_MAP_NEGATIVE_Z)
+			return GL13.GL_TEXTURE_CUBE_MAP;
+		return target;
+	}
+
+	/** Returns the number of uploads issued so far. */
+	public int getUploads () {
+		return uploads;
+	}
+
+	/** Returns the number of uploads issued whose slot the GPU may still be reading. */
+	public int getInFlight () {
+		return inFlightCount;
+	}
+
+	public int getSlotSize () {
+		return slotSize;
+	}
+
+	public boolean isPersistent () {
+		return persistent;
+	}
+
+	/** Must be called on the GL thread once no other thread uses the uploader. Queued uploads are discarded. */
+	public void dispose () {
+		for (Slot slot : slots) {
+			if (slot.fence != 0) GL32.glDeleteSync(slot.fence);
+			slot.fence = 0;
+			if (slot.buffer != null) {
+				Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, slot.pbo);
+				GL15.glUnmapBuffer(GL21.GL_PIXEL_UNPACK_BUFFER);
+				slot.buffer = null;
+			}
+			Gdx.gl.glDeleteBuffer(slot.pbo);
+		}
+		Gdx.gl.glBindBuffer(GL21.GL_PIXEL_UNPACK_BUFFER, 0);
+		free.clear();
+		submitted.clear();
+	}
+
+	/** Staging memory for one upload. */
+	static public class Slot {
+		int pbo;
+		ByteBuffer buffer;
+		long fence;
+		int texture, target, level, x, y, width, height, format, type;
+
+		/** Returns the mapped memory to write pixels into, in native byte order. */
+		public ByteBuffer getBuffer () {
+			return buffer;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import org.lwjgl.glfw.GLFWFramebufferSizeCallback;
+import org.lwjgl.glfw.GLFWWindowCloseCallback;
+import org.lwjgl.glfw.GLFWWindowFocusCallback;
+import org.lwjgl.glfw.GLFWWindowIconifyCallback;
+import org.lwjgl.glfw.GLFWWindowPosCallback;
+import org.lwjgl.glfw.GLFWWindowRefreshCallback;
+
+import static org.lwjgl.glfw.Callbacks.*;
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.opengl.GL11.*;
+
+/** An additional window of a {@link JglfwApplication}, with its own graphics, input and listener. Its context shares textures,
+ * buffers and shaders with the application's, so GPU resources can be used in every window. Windows are rendered by the
+ * application's main loop, before the application's own window, and while a window's listener runs {@link Gdx#graphics},
+ * {@link Gdx#input} and {@link Gdx#gl} refer to that window.
+ * @see JglfwApplication#newWindow(ApplicationListener, JglfwApplicationConfiguration) */
+public class JglfwWindow {
+	final JglfwApplication app;
+	final JglfwGraphics graphics;
+	final JglfwInput input;
+	final ApplicationListener listener;
+	private boolean created, closed;
+	private volatile boolean closeRequested;
+	private boolean resized;
+	private int resizedWidth, resizedHeight;
+
+	// Callbacks need to be fields to avoid GC, so don't inline them!
+	private GLFWFramebufferSizeCallback framebufferSizeCallback;
+	private GLFWWindowPosCallback windowPosCallback;
+	private GLFWWindowRefreshCallback windowRefreshCallback;
+	private GLFWWindowFocusCallback windowFocusCallback;
+	private GLFWWindowIconifyCallback windowIconifyCallback;
+	private GLFWWindowCloseCallback windowCloseCallback;
+
+	JglfwWindow (final JglfwApplication app, ApplicationListener listener, JglfwApplicationConfiguration config) {
+		this.app = app;
+		this.listener = listener;
+		graphics = new JglfwGraphics(config, app.graphics.window);
+		input = new JglfwInput(app, graphics);
+
+		long window = graphics.window;
+		glfwSetFramebufferSizeCallback(window, framebufferSizeCallback = new GLFWFramebufferSizeCallback() {
+			@Override
+			public void invoke (long window, int width, int height) {
+				resized = true;
+				resizedWidth = width;
+				resizedHeight = height;
+				app.graphics.requestRendering();
+			}
+		});
+		glfwSetWindowPosCallback(window, windowPosCallback = new GLFWWindowPosCallback() {
+			@Override
+			public void invoke (long window, int x, int y) {
+				graphics.positionChanged(x, y);
+			}
+		});
+		glfwSetWindowRefreshCallback(window, windowRefreshCallback = new GLFWWindowRefreshCallback() {
+			@Override
+			public void invoke (long window) {
+				app.graphics.requestRendering();
+			}
+		});
+		glfwSetWindowFocusCallback(window, windowFocusCallback = new GLFWWindowFocusCallback() {
+			@Override
+			public void invoke (long window, int focused) {
+				graphics.foreground = focused == GL_TRUE;
+			}
+		});
+		glfwSetWindowIconifyCallback(window, windowIconifyCallback = new GLFWWindowIconifyCallback() {
+			@Override
+			public void invoke (long window, int iconified) {
+				graphics.minimized = iconified == GL_TRUE;
+			}
+		});
+		glfwSetWindowCloseCallback(window, windowCloseCallback = new GLFWWindowCloseCallback() {
+			@Override
+			public void invoke (long window) {
+				closeRequested = true;
+				glfwSetWindowShouldClose(window, GL_FALSE);
+				app.graphics.requestRendering();
+			}
+		});
+	}
+
+	/** Makes the window's context current and points the Gdx globals at the window. */
+	private void makeCurrent () {
+		graphics.makeCurrent();
+		Gdx.graphics = graphics;
+		Gdx.input = input;
+		Gdx.gl = graphics.getGL20();
+		Gdx.gl20 = graphics.getGL20();
+		Gdx.gl30 = graphics.getGL30();
+	}
+
+	/** Renders and swaps the window. The caller restores the application's context and globals.
+	 * @return false if the window was closed. */
+	boolean render (long time) {
+		if (closeRequested) {
+			dispose();
+			return false;
+		}
+		makeCurrent();
+		if (!created) {
+			created = true;
+			listener.create();
+			listener.resize(graphics.getWidth(), graphics.getHeight());
+		}
+		if (resized) {
+			resized = false;
+			graphics.sizeChanged(resizedWidth, resizedHeight, listener);
+		}
+		graphics.frameStart(time);
+		if (!graphics.isHidden() && !graphics.isMinimized()) {
+			listener.render();
+			glfwSwapBuffers(graphics.window);
+		}
+		return true;
+	}
+
+	/** Disposes the listener and destroys the window. Changes the current context. */
+	void dispose () {
+		if (closed) return;
+		closed = true;
+		makeCurrent();
+		if (created) {
+			listener.pause();
+			listener.dispose();
+		}
+		glfwMakeContextCurrent(0);
+		glfwReleaseCallbacks(graphics.window);
+		glfwDestroyWindow(graphics.window);
+	}
+
+	/** Closes the window at the start of the next frame. May be called from any thread. */
+	public void close () {
+		closeRequested = true;
+		app.graphics.requestRendering();
+	}
+
+	public boolean isClosed () {
+		return closed;
+	}
+
+	public JglfwGraphics getGraphics () {
+		return graphics;
+	}
+
+	public JglfwInput getInput () {
+		return input;
+	}
+
+	public ApplicationListener getListener () {
+		return listener;
+	}
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL20;
+import org.lwjgl.opengl.GL41;
+import org.lwjgl.opengl.GLCapabilities;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.security.MessageDigest;
+import java.util.HashSet;
+
+/** Caches linked program binaries on disk, see {@link JglfwApplicationConfiguration#programBinaryCache}. {@link JglfwGL20} hands
+ * shader and program calls to this class when it is installed.
+ * <p>
+ * Programs are keyed by the SHA-1 of their shader types and sources, attribute bindings and the GL vendor, renderer and version
+ * strings. When the driver strings change, every entry is deleted. Shaders whose source is part of a cached program are not
+ * compiled right away: their compile status is reported as successful and they are only compiled if the program has to be linked
+ * from source after all, eg because the driver rejects the binary. A syntax error in such a shader is then reported by the link
+ * status and program info log instead. */
+class ProgramBinaryCache {
+	private final FileHandle directory;
+	private final String driver;
+	private final HashSet<String> knownShaders = new HashSet();
+	private final IntMap<Shader> shaders = new IntMap();
+	private final IntMap<Program> programs = new IntMap();
+	private final IntBuffer intBuffer = BufferUtils.newIntBuffer(1);
+	private MessageDigest digest;
+
+	private ProgramBinaryCache (FileHandle directory, String driver) {
+		this.directory = directory;
+		this.driver = driver;
+		try {
+			digest = MessageDigest.getInstance("SHA-1");
+		} catch (Exception ignored) {
+		}
+
+		FileHandle driverFile = directory.child("driver");
+		if (!driverFile.exists() || !driverFile.readString("UTF-8").equals(driver)) {
+			// New driver, binaries from the old one would be rejected.
+			directory.deleteDirectory();
+			directory.mkdirs();
+			driverFile.writeString(driver, false, "UTF-8");
+		}
+		FileHandle index = directory.child("shaders");
+		if (index.exists()) {
+			for (String hash : index.readString("UTF-8").split("\n"))
+				if (hash.length() > 0) knownShaders.add(hash);
+		}
+	}
+
+	/** Returns a cache storing binaries in the directory, or null if the context can't retrieve program binaries. Must be called
+	 * with the context current. */
+	static ProgramBinaryCache create (FileHandle directory) {
+		GLCapabilities caps = GL.getCapabilities();
+		if (!caps.OpenGL41 && !caps.GL_ARB_get_program_binary) return null;
+		if (GL11.glGetInteger(GL41.GL_NUM_PROGRAM_BINARY_FORMATS) <= 0) return null;
+		String driver = GL11.glGetString(GL11.GL_VENDOR) + "\n" + GL11.glGetString(GL11.GL_RENDERER) + "\n"
+			+ GL11.glGetString(GL11.GL_VERSION);
+		try {
+			ProgramBinaryCache cache = new ProgramBinaryCache(directory, driver);
+			return cache.digest == null ? null : cache;
+		} catch (Exception ex) {
+			return null;
+		}
+	}
+
+	void createShader (int shader, int type) {
+		Shader entry = new Shader();
+		entry.type = type;
+		shaders.put(shader, entry);
+	}
+
+	/** @return true if compiling the shader is deferred and the source must not be passed to GL yet. */
+	boolean shaderSource (int shader, String source) {
+		Shader entry = shaders.get(shader);
+		if (entry == null) return false;
+		entry.source = source;
+		entry.hash = hash(entry.type + ":" + source);
+		entry.deferred = knownShaders.contains(entry.hash);
+		return entry.deferred;
+	}
+
+	/** @return true if the shader is deferred and must not be compiled yet. */
+	boolean compileShader (int shader) {
+		Shader entry = shaders.get(shader);
+		return entry != null && entry.deferred;
+	}
+
+	/** @return true if the parameter was answered for a deferred shader. */
+	boolean getShaderiv (int shader, int pname, IntBuffer params) {
+		Shader entry = shaders.get(shader);
+		if (entry == null || !entry.deferred) return false;
+		if (pname == GL20.GL_COMPILE_STATUS) {
+			params.put(params.position(), GL11.GL_TRUE);
+			return true;
+		}
+		if (pname == GL20.GL_INFO_LOG_LENGTH) {
+			params.put(params.position(), 0);
+			return true;
+		}
+		compile(entry, shader);
+		return false;
+	}
+
+	/** @return the empty info log of a deferred shader, or null. */
+	String getShaderInfoLog (int shader) {
+		Shader entry = shaders.get(shader);
+		return entry != null && entry.deferred ? "" : null;
+	}
+
+	void deleteShader (int shader) {
+		Shader entry = shaders.remove(shader);
+		if (entry == null || !entry.deferred) return;
+		// It may still be attached to a program that has yet to be linked, possibly from source.
+		for (Program program : programs.values()) {
+			if (!program.linked && program.shaders.contains(shader)) {
+				compile(entry, shader);
+				break;
+			}
+		}
+	}
+
+	void attachShader (int program, int shader) {
+		program(program).shaders.add(shader);
+	}
+
+	void detachShader (int program, int shader) {
+		Program entry = programs.get(program);
+		if (entry != null) entry.shaders.removeValue(shader);
+	}
+
+	void bindAttribLocation (int program, int index, String name) {
+		program(program).attributes.add(index + ":" + name);
+	}
+
+	void deleteProgram (int program) {
+		programs.remove(program);
+	}
+
+	/** Links the program from a cached binary, or from source and stores the binary. */
+	void linkProgram (int program) {
+		Program entry = program(program);
+		entry.linked = true;
+		String key = key(entry);
+		if (key == null) {
+			compileAll(entry);
+			GL20.glLinkProgram(program);
+			return;
+		}
+
+		FileHandle file = directory.child(key);
+		if (file.exists()) {
+			try {
+				byte[] bytes = file.readBytes();
+				ByteBuffer binary = BufferUtils.newByteBuffer(bytes.length - 4);
+				binary.put(bytes, 4, bytes.length - 4);
+				binary.flip();
+				int format = (bytes[0] & 0xff) << 24 | (bytes[1] & 0xff) << 16 | (bytes[2] & 0xff) << 8 | (bytes[3] & 0xff);
+				GL41.glProgramBinary(program, format, binary);
+				if (GL20.glGetProgrami(program, GL20.GL_LINK_STATUS) == GL11.GL_TRUE) return;
+			} catch (Exception ignored) {
+			}
+			file.delete();
+		}
+
+		compileAll(entry);
+		GL41.glProgramParameteri(program, GL41.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL11.GL_TRUE);
+		GL20.glLinkProgram(program);
+		if (GL20.glGetProgrami(program, GL20.GL_LINK_STATUS) != GL11.GL_TRUE) return;
+		try {
+			save(program, file, entry);
+		} catch (Exception ignored) {
+			// The cache is best effort.
+		}
+	}
+
+	private void save (int program, FileHandle file, Program entry) {
+		int length = GL20.glGetProgrami(program, GL41.GL_PROGRAM_BINARY_LENGTH);
+		if (length <= 0) return;
+		ByteBuffer binary = BufferUtils.newByteBuffer(length);
+		intBuffer.clear();
+		GL41.glGetProgramBinary(program, null, intBuffer, binary);
+		int format = intBuffer.get(0);
+		byte[] bytes = new byte[length + 4];
+		bytes[0] = (byte)(format >>> 24);
+		bytes[1] = (byte)(format >>> 16);
+		bytes[2] = (byte)(format >>> 8);
+		bytes[3] = (byte)format;
+		binary.get(bytes, 4, length);
+		file.writeBytes(bytes, false);
+
+		StringBuilder index = new StringBuilder();
+		for (int i = 0, n = entry.shaders.size; i < n; i++) {
+			Shader shader = shaders.get(entry.shaders.get(i));
+			if (knownShaders.add(shader.hash)) index.append(shader.hash).append('\n');
+		}
+		if (index.length() > 0) directory.child("shaders").writeString(index.toString(), true, "UTF-8");
+	}
+
+	/** Returns the cache key of the program, or null if a shader's source is unknown. */
+	private String key (Program entry) {
+		Array<String> parts = new Array();
+		for (int i = 0, n = entry.shaders.size; i < n; i++) {
+			Shader shader = shaders.get(entry.shaders.get(i));
+			if (shader == null || shader.hash == null) return null;
+			parts.add(shader.hash);
+		}
+		parts.sort();
+		StringBuilder buffer = new StringBuilder(driver);
+		for (int i = 0; i < parts.size; i++)
+			buffer.append('\n').append(parts.get(i));
+		for (int i = 0; i < entry.attributes.size; i++)
+			buffer.append('\n').append(entry.attributes.get(i));
+		return hash(buffer.toString());
+	}
+
+	private void compileAll (Program entry) {
+		for (int i = 0, n = entry.shaders.size; i < n; i++) {
+			int shader = entry.shaders.get(i);
+			Shader shaderEntry = shaders.get(shader);
+			if (shaderEntry != null) compile(shaderEntry, shader);
+		}
+	}
+
+	private void compile (Shader entry, int shader) {
+		if (!entry.deferred) return;
+		entry.deferred = false;
+		GL20.glShaderSource(shader, entry.source);
+		GL20.glCompileShader(shader);
+	}
+
+	private Program program (int program) {
+		Program entry = programs.get(program);
+		if (entry == null) {
+			entry = new Program();
+			programs.put(program, entry);
+		}
+		return entry;
+	}
+
+	private String hash (String value) {
+		byte[] bytes;
+		try {
+			bytes = digest.digest(value.getBytes("UTF-8"));
+		} catch (Exception ex) {
+			throw new GdxRuntimeException(ex); // UTF-8 is always supported.
+		}
+		char[] hex = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			hex[i * 2] = Character.forDigit((bytes[i] >> 4) & 0xf, 16);
+			hex[i * 2 + 1] = Character.forDigit(bytes[i] & 0xf, 16);
+		}
+		return new String(hex);
+	}
+
+	static private class Shader {
+		int type;
+		String source, hash;
+		boolean deferred;
+	}
+
+	static private class Program {
+		final IntArray shaders = new IntArray();
+		final Array<String> attributes = new Array();
+		boolean linked;
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import org.lwjgl.opengl.GL;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+/** Owns the GL context in pipelined mode and draws frames handed off by the main loop, see {@link JglfwPipelinedListener}. At most
+ * one frame is in flight: the main loop can update buffer N + 1 while this thread draws buffer N, then waits for N to finish
+ * before reusing its buffer. */
+final class RenderThread extends Thread {
+	private final JglfwApplication app;
+	private final JglfwPipelinedListener listener;
+	/** Released for every submitted frame and every posted runnable. */
+	private final Semaphore work = new Semaphore(0);
+	/** Starts with one free buffer, released each time a frame has been drawn. */
+	private final Semaphore bufferFree = new Semaphore(1);
+	private final AtomicInteger pendingFrames = new AtomicInteger();
+	/** Released once the listener has been created and resized, or creating it failed. */
+	private final CountDownLatch created = new CountDownLatch(1);
+	private volatile boolean finished;
+	private int renderBuffer, updateBuffer;
+
+	RenderThread (JglfwApplication app, JglfwPipelinedListener listener) {
+		super("Render");
+		this.app = app;
+		this.listener = listener;
+	}
+
+	public void run () {
+		try {
+			glfwMakeContextCurrent(app.graphics.window);
+			GL.createCapabilities();
+
+			listener.create();
+			listener.resize(app.graphics.getWidth(), app.graphics.getHeight());
+			created.countDown();
+
+			while (true) {
+				work.acquireUninterruptibly();
+				if (finished) break;
+				app.executeRunnables();
+				while (pendingFrames.get() > 0) {
+					app.renderFrame(listener, renderBuffer);
+					renderBuffer ^= 1;
+					pendingFrames.decrementAndGet();
+					bufferFree.release();
+				}
+			}
+
+			app.disposeListeners();
+			glfwMakeContextCurrent(0);
+		} catch (Throwable ex) {
+			app.running = false;
+			bufferFree.release(); // Don't leave the main loop waiting.
+			created.countDown();
+			app.exception(ex);
+		}
+	}
+
+	/** Called from the main loop thread. Waits until the listener has been created, so update is never called before create. */
+	void awaitCreated () {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				created.await();
+				break;
+			} catch (InterruptedException ex) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	/** Called from the main loop thread. Runs {@link JglfwPipelinedListener#update(int)} for the next frame, hands it to this
+	 * thread, then waits until the buffer for the frame after it is free. */
+	void frame () {
+		listener.update(updateBuffer);
+		updateBuffer ^= 1;
+		pendingFrames.incrementAndGet();
+		work.release();
+		bufferFree.acquireUninterruptibly();
+	}
+
+	/** Wakes this thread to run posted runnables. */
+	void wake () {
+		work.release();
+	}
+
+	/** Called from the main loop thread. Disposes the listener on this thread and waits for it to finish. */
+	void finish () {
+		finished = true;
+		work.release();
+		try {
+			join();
+		} catch (InterruptedException ignored) {
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** Unbounded lock-free multi-producer/single-consumer queue of runnables. Any thread may {@link #offer(Runnable)}, only the
+ * main loop thread may {@link #drain(int, long)}. Based on Dmitry Vyukov's intrusive MPSC node queue. */
+final class RunnableQueue {
+	private final AtomicReference<Node> tail;
+	private final AtomicInteger size = new AtomicInteger();
+	/** Consumer side, only touched by the main loop thread. */
+	private Node head;
+
+	RunnableQueue () {
+		Node stub = new Node(null);
+		head = stub;
+		tail = new AtomicReference<Node>(stub);
+	}
+
+	/** Adds a runnable to the end of the queue. Wait-free, may be called from any thread. */
+	void offer (Runnable runnable) {
+		Node node = new Node(runnable);
+		node.time = System.nanoTime();
+		size.incrementAndGet();
+		Node previous = tail.getAndSet(node);
+		previous.next = node;
+	}
+
+	/** Runs the runnables that were in the queue when this method was called, in FIFO order, until the queue is exhausted or the
+	 * budget runs out. Runnables posted while draining and runnables over budget are left for the next call, so a producer can't
+	 * starve the main loop. At least one runnable is run if any are queued.
+	 * @param maxRunnables Maximum number of runnables to run, 0 for no limit.
+	 * @param maxNanos Maximum time to spend running runnables, 0 for no limit.
+	 * @return the number of runnables run. */
+	int drain (int maxRunnables, long maxNanos) {
+		Node last = tail.get();
+		if (last == head) return 0;
+		long start = maxNanos > 0 ? System.nanoTime() : 0;
+		int count = 0;
+		Node node;
+		do {
+			node = head.next;
+			if (node == null) break;
+			head = node;
+			size.decrementAndGet();
+			Runnable runnable = node.runnable;
+			node.runnable = null;
+			count++;
+			runnable.run();
+			if (maxRunnables > 0 && count >= maxRunnables) break;
+			if (maxNanos > 0 && System.nanoTime() - start >= maxNanos) break;
+		} while (node != last);
+		return count;
+	}
+
+	/** Returns the number of runnables waiting to be run. */
+	int size () {
+		return size.get();
+	}
+
+	/** Returns the time in nanoseconds the oldest queued runnable has been waiting, or 0 if the queue is empty. Must only be called
+	 * from the consumer thread. */
+	long age () {
+		Node next = head.next;
+		if (next == null) return 0;
+		return System.nanoTime() - next.time;
+	}
+
+	static private final class Node {
+		Runnable runnable;
+		long time;
+		volatile Node next;
+
+		Node (Runnable runnable) {
+			this.runnable = runnable;
+		}
+	}
+}
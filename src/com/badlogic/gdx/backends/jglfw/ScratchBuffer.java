@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import com.badlogic.gdx.math.MathUtils;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/** Per thread off-heap scratch memory, used to hand part of a Java array to the LWJGL entry points that take raw addresses.
+ * Each GL call needs a single array, so every copy goes to the start of the memory and stays valid until the next copy on the
+ * same thread. Whole arrays are passed to LWJGL's array overloads instead. */
+final class ScratchBuffer {
+	static private final int initialSize = 16 * 1024;
+
+	static private final ThreadLocal<ScratchBuffer> buffers = new ThreadLocal<ScratchBuffer>() {
+		protected ScratchBuffer initialValue () {
+			return new ScratchBuffer();
+		}
+	};
+
+	private ByteBuffer buffer;
+	private FloatBuffer floats;
+	private IntBuffer ints;
+	private long address;
+
+	private ScratchBuffer () {
+		allocate(initialSize);
+	}
+
+	private void allocate (int size) {
+		buffer = BufferUtils.createByteBuffer(size);
+		floats = buffer.asFloatBuffer();
+		ints = buffer.asIntBuffer();
+		address = MemoryUtil.memAddress(buffer);
+	}
+
+	/** Returns the scratch memory of the calling thread, grown to hold at least the given number of bytes. */
+	static private ScratchBuffer get (int bytes) {
+		ScratchBuffer scratch = buffers.get();
+		if (bytes > scratch.buffer.capacity()) scratch.allocate(MathUtils.nextPowerOfTwo(bytes));
+		return scratch;
+	}
+
+	/** Returns the address of scratch memory for the given number of ints, eg for GL to write names to. */
+	static long ints (int count) {
+		return get(count << 2).address;
+	}
+
+	/** Copies the ints to scratch memory and returns its address. */
+	static long ints (int[] v, int offset, int count) {
+		ScratchBuffer scratch = get(count << 2);
+		scratch.ints.clear();
+		scratch.ints.put(v, offset, count);
+		return scratch.address;
+	}
+
+	/** Copies the floats to scratch memory and returns its address. */
+	static long floats (float[] v, int offset, int count) {
+		ScratchBuffer scratch = get(count << 2);
+		scratch.floats.clear();
+		scratch.floats.put(v, offset, count);
+		return scratch.address;
+	}
+
+	/** Copies ints written to the memory returned by {@link #ints(int)} to the array. */
+	static void get (int[] v, int offset, int count) {
+		IntBuffer ints = buffers.get().ints;
+		ints.clear();
+		ints.get(v, offset, count);
+	}
+}
@@ -74,8 +74,14 @@ public class OpenALAudio implements Audio {
 	}
 
 	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize) {
+		this(simultaneousSources, deviceBufferCount, deviceBufferSize, false);
+	}
+
+	/** @param noDevice If true, OpenAL is not initialized. Sounds and music can still be created and controlled but play nothing. */
+	public OpenALAudio (int simultaneousSources, int deviceBufferCount, int deviceBufferSize, boolean noDevice) {
 		this.deviceBufferSize = deviceBufferSize;
 		this.deviceBufferCount = deviceBufferCount;
+		this.noDevice = noDevice;
 
 		registerSound("ogg", Ogg.Sound.class);
 		registerMusic("ogg", Ogg.Music.class);
@@ -84,6 +90,15 @@ public class OpenALAudio implements Audio {
 		registerSound("mp3", Mp3.Sound.class);
 		registerMusic("mp3", Mp3.Music.class);
 
+		if (noDevice) {
+			allSources = new IntArray();
+			idleSources = new IntArray();
+			soundIdToSource = new LongMap<Integer>();
+			sourceToSoundId = new IntMap<Long>();
+			recentSounds = new OpenALSound[0];
+			return;
+		}
+
 		alContext = ALContext.create();
 
 		allSources = new IntArray(false, simultaneousSources);
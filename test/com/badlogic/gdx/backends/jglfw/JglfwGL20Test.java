@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.junit.Assume;
+import org.junit.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.system.MemoryUtil;
+
+import java.lang.management.ManagementFactory;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+/** Checks the buffer addresses handed to LWJGL and that passing buffers down the draw path allocates nothing. Needs no GL
+ * context. */
+public class JglfwGL20Test {
+	static private final int warmup = 20000, iterations = 200000;
+
+	@Test
+	public void addressIsAtPosition () {
+		ByteBuffer bytes = BufferUtils.createByteBuffer(64);
+		ShortBuffer shorts = BufferUtils.createShortBuffer(16);
+		FloatBuffer floats = BufferUtils.createFloatBuffer(16);
+		bytes.position(5);
+		shorts.position(5);
+		floats.position(5);
+		assertEquals(MemoryUtil.memAddress0(bytes) + 5, JglfwGL20.address(bytes));
+		assertEquals(MemoryUtil.memAddress0(shorts) + 10, JglfwGL20.address(shorts));
+		assertEquals(MemoryUtil.memAddress0(floats) + 20, JglfwGL20.address(floats));
+		// The untyped overload, used by the GL interfaces, must agree.
+		assertEquals(MemoryUtil.memAddress0(bytes) + 5, JglfwGL20.address((Buffer)bytes));
+		assertEquals(MemoryUtil.memAddress0(shorts) + 10, JglfwGL20.address((Buffer)shorts));
+		assertEquals(MemoryUtil.memAddress0(floats) + 20, JglfwGL20.address((Buffer)floats));
+		floats.position(0);
+		assertEquals(MemoryUtil.memAddress0(floats), JglfwGL20.address((Buffer)floats));
+		assertEquals(0, JglfwGL20.address((Buffer)null));
+	}
+
+	@Test(expected = GdxRuntimeException.class)
+	public void heapBufferIsRejected () {
+		JglfwGL20.address((Buffer)FloatBuffer.allocate(4));
+	}
+
+	@Test
+	public void addressDoesNotAllocate () {
+		Buffer[] buffers = {BufferUtils.createByteBuffer(64), BufferUtils.createShortBuffer(16), BufferUtils.createFloatBuffer(16)};
+		buffers[1].position(3);
+		long sum = 0;
+		for (int i = 0; i < warmup; i++)
+			sum += JglfwGL20.address(buffers[i % 3]);
+		long before = allocatedBytes();
+		for (int i = 0; i < iterations; i++)
+			sum += JglfwGL20.address(buffers[i % 3]);
+		long allocated = allocatedBytes() - before;
+		assertTrue(sum != 0);
+		assertTrue("Allocated " + allocated + " bytes for " + iterations + " calls.", allocated < 1024);
+	}
+
+	@Test
+	public void drawPathDoesNotAllocate () {
+		DrawGL20 gl = new DrawGL20();
+		JglfwGLProfiler profiler = new JglfwGLProfiler(gl, null);
+		ShortBuffer indices = BufferUtils.createShortBuffer(600);
+		for (int i = 0; i < warmup; i++)
+			draw(profiler, indices, i);
+		long before = allocatedBytes();
+		for (int i = 0; i < iterations; i++)
+			draw(profiler, indices, i);
+		long allocated = allocatedBytes() - before;
+		assertEquals(MemoryUtil.memAddress0(indices) + (indices.position() << 1), gl.lastAddress);
+		assertTrue("Allocated " + allocated + " bytes for " + iterations + " draws.", allocated < 1024);
+	}
+
+	static private void draw (GL20 gl, ShortBuffer indices, int i) {
+		// Mostly at position 0, as libGDX draws, sometimes at an offset into the indices.
+		indices.position((i & 7) == 0 ? 6 * (i & 63) : 0);
+		gl.glDrawElements(GL20.GL_TRIANGLES, 6, GL20.GL_UNSIGNED_SHORT, indices);
+	}
+
+	static private long allocatedBytes () {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+		Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled());
+		return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/** Resolves the address as the real draw call does, then stops short of calling the driver. */
+	static private class DrawGL20 extends JglfwGL20 {
+		long lastAddress;
+
+		public void glDrawElements (int mode, int count, int type, Buffer indices) {
+			lastAddress = address(indices);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/** Drives {@link JglfwSync} at common frame rates and checks the pacing it achieves and the wake errors it reports. Needs no GL
+ * context or window. Each rate runs for about a second and a half. Scheduling on a loaded machine can delay any single frame, so
+ * a rate fails only if all of its attempts do. */
+public class JglfwSyncTest {
+	static private final int attempts = 3;
+	static private final long maxMeanError = 1000000, minP99Limit = 4000000;
+
+	@Test
+	public void sync30 () {
+		pace(30);
+	}
+
+	@Test
+	public void sync60 () {
+		pace(60);
+	}
+
+	@Test
+	public void sync144 () {
+		pace(144);
+	}
+
+	@Test
+	public void sync240 () {
+		pace(240);
+	}
+
+	static private void pace (int fps) {
+		String failure = null;
+		for (int i = 0; i < attempts; i++) {
+			failure = attempt(fps);
+			if (failure == null) return;
+		}
+		fail(fps + " fps: " + failure);
+	}
+
+	/** @return null if the rate was held, else what went wrong. */
+	static private String attempt (int fps) {
+		JglfwSync sync = new JglfwSync();
+		for (int i = 0, n = fps / 2; i < n; i++) // Let the oversleep estimate settle and the JIT compile the loop.
+			sync.sync(fps);
+		sync.resetStatistics();
+
+		int frames = fps;
+		long[] intervals = new long[frames];
+		long last = System.nanoTime(), start = last;
+		for (int i = 0; i < frames; i++) {
+			sync.sync(fps);
+			long now = System.nanoTime();
+			intervals[i] = now - last;
+			last = now;
+		}
+		long period = 1000000000L / fps, expected = frames * period, elapsed = last - start;
+		Arrays.sort(intervals);
+		long median = intervals[frames / 2];
+		long meanError = sync.getMeanWakeError(), p99Error = sync.getP99WakeError();
+
+		// Frames are scheduled from the previous frame's target, so a late frame doesn't push back the ones after it.
+		if (Math.abs(elapsed - expected) > expected / 20) return "elapsed " + elapsed + "ns for " + frames + " frames";
+		if (Math.abs(median - period) > period / 20) return "median frame interval " + median + "ns";
+		if (meanError < 0 || meanError > maxMeanError) return "mean wake error " + meanError + "ns";
+		if (p99Error > Math.max(minP99Limit, period / 2)) return "p99 wake error " + p99Error + "ns";
+		return null;
+	}
+}
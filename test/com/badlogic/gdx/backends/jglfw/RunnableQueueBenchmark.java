@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+/** Compares the throughput of {@link RunnableQueue} with the synchronized list that JglfwApplication used before, with 1 to 16
+ * threads posting runnables while the main thread drains them. Run with <code>main</code>. It isn't a unit test because the
+ * numbers depend on the machine. */
+public class RunnableQueueBenchmark {
+	static private final int[] producerCounts = {1, 2, 4, 8, 12, 16};
+	static private final int runnables = 2000000, rounds = 5;
+
+	static public void main (String[] args) throws Exception {
+		System.out.println("producers  lock-free (runnables/ms)  synchronized (runnables/ms)");
+		for (int producers : producerCounts) {
+			double lockFree = 0, synchronizedList = 0;
+			for (int round = 0; round < rounds; round++) {
+				// The first round warms up the JIT and isn't counted.
+				double a = run(new LockFreeQueue(), producers), b = run(new SynchronizedQueue(), producers);
+				if (round == 0) continue;
+				lockFree += a;
+				synchronizedList += b;
+			}
+			System.out.printf("%9d  %24.0f  %27.0f%n", producers, lockFree / (rounds - 1), synchronizedList / (rounds - 1));
+		}
+	}
+
+	/** @return runnables per millisecond from the first post to the last run. */
+	static private double run (final Queue queue, int producers) throws InterruptedException {
+		final Counter counter = new Counter();
+		final CountDownLatch start = new CountDownLatch(1);
+		final int perProducer = runnables / producers;
+		Thread[] threads = new Thread[producers];
+		for (int i = 0; i < producers; i++) {
+			threads[i] = new Thread() {
+				public void run () {
+					try {
+						start.await();
+					} catch (InterruptedException ex) {
+						return;
+					}
+					for (int n = 0; n < perProducer; n++)
+						queue.offer(counter);
+				}
+			};
+			threads[i].start();
+		}
+		int total = perProducer * producers;
+		long startTime = System.nanoTime();
+		start.countDown();
+		while (counter.count < total)
+			queue.drain();
+		long nanos = System.nanoTime() - startTime;
+		for (Thread thread : threads)
+			thread.join();
+		return total / (nanos / 1000000.0);
+	}
+
+	static private interface Queue {
+		public void offer (Runnable runnable);
+
+		public void drain ();
+	}
+
+	static private class LockFreeQueue implements Queue {
+		final RunnableQueue queue = new RunnableQueue();
+
+		public void offer (Runnable runnable) {
+			queue.offer(runnable);
+		}
+
+		public void drain () {
+			queue.drain(0, 0);
+		}
+	}
+
+	/** The previous postRunnable and executeRunnables. */
+	static private class SynchronizedQueue implements Queue {
+		final ArrayList<Runnable> runnables = new ArrayList<Runnable>();
+		final ArrayList<Runnable> executedRunnables = new ArrayList<Runnable>();
+
+		public void offer (Runnable runnable) {
+			synchronized (runnables) {
+				runnables.add(runnable);
+			}
+		}
+
+		public void drain () {
+			synchronized (runnables) {
+				for (int i = runnables.size() - 1; i >= 0; i--)
+					executedRunnables.add(runnables.get(i));
+				runnables.clear();
+			}
+			while (!executedRunnables.isEmpty())
+				executedRunnables.remove(executedRunnables.size() - 1).run();
+		}
+	}
+
+	/** Only run on the draining thread. */
+	static private class Counter implements Runnable {
+		int count;
+
+		public void run () {
+			count++;
+		}
+	}
+}
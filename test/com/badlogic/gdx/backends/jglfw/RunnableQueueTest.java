@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class RunnableQueueTest {
+	@Test
+	public void drainsInOrder () {
+		RunnableQueue queue = new RunnableQueue();
+		final StringBuilder order = new StringBuilder();
+		for (int i = 0; i < 5; i++) {
+			final int index = i;
+			queue.offer(new Runnable() {
+				public void run () {
+					order.append(index);
+				}
+			});
+		}
+		assertEquals(5, queue.size());
+		assertEquals(5, queue.drain(0, 0));
+		assertEquals("01234", order.toString());
+		assertEquals(0, queue.size());
+		assertEquals(0, queue.drain(0, 0));
+	}
+
+	@Test
+	public void budgetLeavesTheRest () {
+		RunnableQueue queue = new RunnableQueue();
+		Counter counter = new Counter();
+		for (int i = 0; i < 10; i++)
+			queue.offer(counter);
+		assertEquals(4, queue.drain(4, 0));
+		assertEquals(6, queue.size());
+		assertEquals(6, queue.drain(0, 0));
+		assertEquals(10, counter.count);
+	}
+
+	@Test
+	public void runnablesPostedWhileDrainingWaitForTheNextDrain () {
+		final RunnableQueue queue = new RunnableQueue();
+		final Counter counter = new Counter();
+		queue.offer(new Runnable() {
+			public void run () {
+				queue.offer(counter);
+			}
+		});
+		assertEquals(1, queue.drain(0, 0));
+		assertEquals(0, counter.count);
+		assertEquals(1, queue.drain(0, 0));
+		assertEquals(1, counter.count);
+	}
+
+	@Test
+	public void producersLoseNothingAndKeepTheirOrder () throws InterruptedException {
+		final RunnableQueue queue = new RunnableQueue();
+		final int producers = 8, perProducer = 20000;
+		final int[] next = new int[producers];
+		final boolean[] outOfOrder = new boolean[1];
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[producers];
+		for (int p = 0; p < producers; p++) {
+			final int producer = p;
+			threads[p] = new Thread() {
+				public void run () {
+					try {
+						start.await();
+					} catch (InterruptedException ex) {
+						return;
+					}
+					for (int i = 0; i < perProducer; i++) {
+						final int sequence = i;
+						queue.offer(new Runnable() {
+							public void run () {
+								// Runs on the consumer thread only.
+								if (next[producer] != sequence) outOfOrder[0] = true;
+								next[producer]++;
+							}
+						});
+					}
+				}
+			};
+			threads[p].start();
+		}
+		start.countDown();
+		int total = 0;
+		long timeout = System.nanoTime() + 30000000000L;
+		while (total < producers * perProducer && System.nanoTime() < timeout)
+			total += queue.drain(0, 0);
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(producers * perProducer, total);
+		assertFalse("A producer's runnables ran out of order.", outOfOrder[0]);
+		assertEquals(0, queue.size());
+	}
+
+	static class Counter implements Runnable {
+		int count;
+
+		public void run () {
+			count++;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.jglfw;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+import com.badlogic.gdx.utils.BufferUtils;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL20;
+
+import java.nio.FloatBuffer;
+
+/** Compares the ways a float array reaches glUniformMatrix4fv, for a skinning sized upload of 64 matrices: the previous copy into
+ * a FloatBuffer with {@link BufferUtils#copy(float[], java.nio.Buffer, int, int)}, the copy into {@link ScratchBuffer} used for
+ * partial arrays, and LWJGL's array overload used for whole arrays. Run with <code>main</code>. It needs a display for its
+ * hidden window and isn't a unit test because the numbers depend on the machine and driver. */
+public class UniformUploadBenchmark {
+	static private final int matrices = 64, floats = matrices * 16;
+	static private final int calls = 100000, rounds = 5;
+
+	static public void main (String[] args) {
+		JglfwNativesLoader.load();
+		if (glfwInit() != GL11.GL_TRUE) throw new IllegalStateException("Unable to initialize GLFW.");
+		glfwDefaultWindowHints();
+		glfwWindowHint(GLFW_VISIBLE, 0);
+		long window = glfwCreateWindow(64, 64, "UniformUploadBenchmark", 0, 0);
+		if (window == 0) throw new IllegalStateException("Unable to create a window.");
+		glfwMakeContextCurrent(window);
+		GL.createCapabilities();
+		try {
+			run(new JglfwGL20());
+		} finally {
+			glfwDestroyWindow(window);
+			glfwTerminate();
+		}
+	}
+
+	static private void run (JglfwGL20 gl) {
+		int program = program(gl);
+		gl.glUseProgram(program);
+		int location = gl.glGetUniformLocation(program, "u_bones");
+		if (location == -1) throw new IllegalStateException("u_bones was optimized out.");
+
+		float[] whole = new float[floats], offsetArray = new float[floats + 16];
+		for (int i = 0; i < floats; i++)
+			whole[i] = offsetArray[i + 16] = i % 17 == 0 ? 1 : 0;
+		FloatBuffer buffer = BufferUtils.newFloatBuffer(floats);
+
+		System.out.println("ns per glUniformMatrix4fv of " + matrices + " matrices");
+		System.out.println("copy to FloatBuffer  scratch copy  whole array");
+		for (int round = 0; round < rounds; round++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < calls; i++) {
+				// The previous JglfwGL20 path.
+				buffer.clear();
+				BufferUtils.copy(whole, buffer, floats, 0);
+				GL20.glUniformMatrix4fv(location, false, buffer);
+			}
+			GL11.glFinish();
+			long copy = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < calls; i++)
+				gl.glUniformMatrix4fv(location, matrices, false, offsetArray, 16); // Partial array, copied to scratch memory.
+			GL11.glFinish();
+			long scratch = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < calls; i++)
+				gl.glUniformMatrix4fv(location, matrices, false, whole, 0); // Whole array, passed to LWJGL.
+			GL11.glFinish();
+			long array = System.nanoTime() - start;
+
+			if (round == 0) continue; // JIT warm up.
+			System.out.printf("%19d  %12d  %11d%n", copy / calls, scratch / calls, array / calls);
+		}
+		gl.glUseProgram(0);
+		gl.glDeleteProgram(program);
+	}
+
+	static private int program (JglfwGL20 gl) {
+		int vertex = shader(gl, GL20.GL_VERTEX_SHADER, "#version 120\n" //
+			+ "uniform mat4 u_bones[" + matrices + "];\n" //
+			+ "attribute vec4 a_position;\n" //
+			+ "attribute float a_bone;\n" //
+			+ "void main () { gl_Position = u_bones[int(a_bone)] * a_position; }\n");
+		int fragment = shader(gl, GL20.GL_FRAGMENT_SHADER, "#version 120\nvoid main () { gl_FragColor = vec4(1.0); }\n");
+		int program = gl.glCreateProgram();
+		gl.glAttachShader(program, vertex);
+		gl.glAttachShader(program, fragment);
+		gl.glLinkProgram(program);
+		gl.glDeleteShader(vertex);
+		gl.glDeleteShader(fragment);
+		if (GL20.glGetProgrami(program, GL20.GL_LINK_STATUS) != GL11.GL_TRUE)
+			throw new IllegalStateException(gl.glGetProgramInfoLog(program));
+		return program;
+	}
+
+	static private int shader (JglfwGL20 gl, int type, String source) {
+		int shader = gl.glCreateShader(type);
+		gl.glShaderSource(shader, source);
+		gl.glCompileShader(shader);
+		if (GL20.glGetShaderi(shader, GL20.GL_COMPILE_STATUS) != GL11.GL_TRUE)
+			throw new IllegalStateException(gl.glGetShaderInfoLog(shader));
+		return shader;
+	}
+}